@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.10-SNAPSHOT"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.nonggle"
@@ -10,7 +11,7 @@ description = "Nonggle backend"
 
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(21)
 	}
 }
 
@@ -29,9 +30,19 @@ dependencies {
 
 	// Kakao API 호출용 HTTP Client
 	implementation("com.squareup.okhttp3:okhttp:4.12.0")
+	testImplementation("com.squareup.okhttp3:mockwebserver:4.12.0")
+
+	// 카카오 API 장애 격리 (circuit breaker / bulkhead)
+	implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.2.0")
+	implementation("io.github.resilience4j:resilience4j-bulkhead:2.2.0")
 
 	// JSON 파싱용 (이미 있을 수도 있음)
 	implementation("com.fasterxml.jackson.core:jackson-databind")
+	// 리플렉션 대신 LambdaMetafactory로 생성한 accessor로 직렬화/역직렬화 (JacksonConfig)
+	implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
+	// Accept: application/cbor, application/x-jackson-smile 응답 (같은 ApiResponse 구조의 바이너리 인코딩)
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
 
 	// JWT
 	implementation("io.jsonwebtoken:jjwt-api:0.11.5")
@@ -51,12 +62,52 @@ dependencies {
 
 	// Postgres 드라이버 추가
 	implementation("org.postgresql:postgresql:42.7.10")
+
+	// 인메모리 캐시 (JWT 검증 결과 캐시 등)
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
+	// 여러 서버가 공유하는 이력서 캐시 (resume.cache.type=redis 일 때만 사용)
+	implementation("org.springframework.boot:spring-boot-starter-data-redis")
+
+	// 메트릭 (Prometheus scrape: 관리 포트의 /actuator/prometheus, @Timed 처리용 AOP 포함)
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
+	// 이력서 PDF 렌더링
+	implementation("org.apache.pdfbox:pdfbox:3.0.3")
+}
+
+// JMH 벤치마크 (src/jmh/java)
+// 실행: ./gradlew jmh  /  특정 벤치마크만: ./gradlew jmh -Pjmh.includes=JwtProviderBenchmark
+dependencies {
+	jmh("org.springframework:spring-test")
+	jmh("org.mockito:mockito-core")
+}
+
+jmh {
+	warmupIterations = 3
+	iterations = 5
+	fork = 1
+	profilers = listOf("gc") // 처리량과 함께 op당 할당량(gc.alloc.rate.norm) 기록
+	resultFormat = "JSON"
+	(project.findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
+	(project.findProperty("resume.pdf.font-path") as String?)?.let { jvmArgsAppend = listOf("-Dresume.pdf.font-path=$it") }
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+// 가상 스레드 모드: ./gradlew bootRun -PvirtualThreads
+// Tomcat 요청 처리와 내부 비동기 작업(auth executor, OkHttp dispatcher)이 가상 스레드에서 실행된다.
+tasks.bootRun {
+	if (project.hasProperty("virtualThreads")) {
+		systemProperty("spring.threads.virtual.enabled", "true")
+		jvmArgs("-Djdk.tracePinnedThreads=short") // synchronized 구간에서 carrier 스레드 pinning 발생 시 로그 출력
+	}
+}
+
 tasks.bootJar {
 	archiveFileName = "app.jar"
 }
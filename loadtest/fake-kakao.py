@@ -0,0 +1,44 @@
+"""부하 테스트용 카카오 /v2/user/me 대역 서버.
+
+accessToken마다 고정된 id를 돌려주고, FAKE_KAKAO_LATENCY_MS 만큼 응답을 지연시켜
+실제 카카오 호출 지연을 흉내 낸다.
+
+    FAKE_KAKAO_LATENCY_MS=150 python3 loadtest/fake-kakao.py 8089
+"""
+import hashlib
+import json
+import os
+import sys
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+LATENCY_SECONDS = int(os.environ.get("FAKE_KAKAO_LATENCY_MS", "150")) / 1000
+
+
+class FakeKakaoHandler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+
+    def do_GET(self):
+        auth = self.headers.get("Authorization", "")
+        if self.path != "/v2/user/me" or not auth.startswith("Bearer "):
+            self._send(401, {"code": -401, "msg": "this access token does not exist"})
+            return
+        time.sleep(LATENCY_SECONDS)
+        kakao_id = int(hashlib.sha256(auth[7:].encode()).hexdigest()[:12], 16)
+        self._send(200, {"id": kakao_id, "properties": {"nickname": "loadtest"}})
+
+    def _send(self, status, body):
+        payload = json.dumps(body).encode()
+        self.send_response(status)
+        self.send_header("Content-Type", "application/json;charset=UTF-8")
+        self.send_header("Content-Length", str(len(payload)))
+        self.end_headers()
+        self.wfile.write(payload)
+
+    def log_message(self, format, *args):
+        pass
+
+
+if __name__ == "__main__":
+    port = int(sys.argv[1]) if len(sys.argv) > 1 else 8089
+    ThreadingHTTPServer(("0.0.0.0", port), FakeKakaoHandler).serve_forever()
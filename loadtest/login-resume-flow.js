@@ -0,0 +1,59 @@
+// 로그인 → 이력서 생성 → 목록 조회 흐름 부하 테스트 (k6)
+//   k6 run -e BASE_URL=http://localhost:8080 -e PEAK_VUS=400 loadtest/login-resume-flow.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PEAK_VUS = parseInt(__ENV.PEAK_VUS || '400', 10);
+
+export const options = {
+    scenarios: {
+        login_and_create: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: PEAK_VUS },
+                { duration: '1m', target: PEAK_VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{name:login}': ['p(95)<1000'],
+        'http_req_duration{name:createResume}': ['p(95)<1000'],
+    },
+};
+
+const resumeData = JSON.stringify({
+    userName: '부하테스트',
+    userAge: '60',
+    totalCareer: '120m',
+    introduce: '성실하게 일하겠습니다.'.repeat(20),
+    careerList: [
+        { careerStartDate: '2010-01', careerEndDate: '2020-01', careerPeriod: '120m', careerDescription: '농장 관리' },
+    ],
+    personalityList: [{ personality: '성실함' }],
+});
+
+export default function () {
+    const login = http.post(
+        `${BASE_URL}/auth/kakao`,
+        JSON.stringify({ accessToken: `loadtest-${__VU}-${__ITER}` }),
+        { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login' } },
+    );
+    if (!check(login, { 'login 200': (r) => r.status === 200 })) {
+        return;
+    }
+    const headers = { Authorization: `Bearer ${login.json('data.accessToken')}` };
+
+    const created = http.post(
+        `${BASE_URL}/api/v1/resumes`,
+        { data: http.file(resumeData, 'data.json', 'application/json') },
+        { headers, tags: { name: 'createResume' } },
+    );
+    check(created, { 'create 201': (r) => r.status === 201 });
+
+    const list = http.get(`${BASE_URL}/api/v1/resumes?view=summary&limit=20`, { headers, tags: { name: 'listResumes' } });
+    check(list, { 'list 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,55 @@
+package com.nonggle.server.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nonggle.server.common.ErrorResponseWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 실행되는 public path 판별 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"/api/v1/resumes", "/api/v1/resumes/123", "/auth/kakao", "/uploads/ab/cd/profile.jpg"})
+    public String requestUri;
+
+    // 변경 전 방식(요청마다 AntPathMatcher로 전체 패턴 순회) 비교용
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private final List<String> antPatterns = Arrays.asList(PublicPaths.PATTERNS);
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        JwtProvider jwtProvider = new JwtProvider(
+                "benchmark-secret-key-for-jwt-provider-0123456789", 60_000, 120_000, 100, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtProvider, new ErrorResponseWriter(new ObjectMapper(), new SimpleMeterRegistry()));
+        request = new MockHttpServletRequest("GET", requestUri);
+    }
+
+    @Benchmark
+    public boolean shouldNotFilter() throws Exception {
+        return filter.shouldNotFilter(request);
+    }
+
+    @Benchmark
+    public boolean antPathMatcherBaseline() {
+        return antPatterns.stream()
+                .anyMatch(p -> antPathMatcher.match(p, request.getRequestURI()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.nonggle.server.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// AccessToken 발급/검증 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-provider-0123456789";
+
+    private JwtProvider jwtProvider;
+    private JwtProvider uncachedJwtProvider; // 캐시 크기 0 → 매 호출 서명 검증
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(SECRET, 30 * 60 * 1000L, 14 * 24 * 60 * 60 * 1000L, 10_000, new SimpleMeterRegistry());
+        uncachedJwtProvider = new JwtProvider(SECRET, 30 * 60 * 1000L, 14 * 24 * 60 * 60 * 1000L, 0, new SimpleMeterRegistry());
+        accessToken = jwtProvider.createAccessToken(42L);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtProvider.createAccessToken(42L);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return jwtProvider.getUserId(accessToken);
+    }
+
+    @Benchmark
+    public Long getUserIdUncached() {
+        return uncachedJwtProvider.getUserId(accessToken);
+    }
+}
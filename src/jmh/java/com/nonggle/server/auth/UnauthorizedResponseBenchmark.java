@@ -0,0 +1,98 @@
+package com.nonggle.server.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ApiResponse;
+import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.common.ErrorResponseWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 401 응답 경로 처리량 (토큰 누락 / 만료 토큰)
+ * - 실제 요청은 Tomcat/Security 필터 아래 깊은 스택에서 예외가 만들어지므로 stackDepth로 호출 깊이를 맞춘다.
+ * - objectMapperBaseline: 변경 전 방식 (스택 트레이스를 채우는 ApiException + 요청마다 ObjectMapper 직렬화)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UnauthorizedResponseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-provider-0123456789";
+
+    @Param({"10", "100"})
+    public int stackDepth;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FilterChain chain = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private String expiredToken;
+
+    @Setup
+    public void setUp() {
+        JwtProvider jwtProvider = new JwtProvider(SECRET, -60_000, 120_000, 10_000, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtProvider, new ErrorResponseWriter(objectMapper, new SimpleMeterRegistry()));
+        expiredToken = jwtProvider.createAccessToken(42L);
+    }
+
+    @Benchmark
+    public int missingToken() throws Exception {
+        return atDepth(stackDepth, () -> filter(null));
+    }
+
+    // 만료 토큰은 검증 캐시에 남지 않으므로 매번 서명 검증까지 수행
+    @Benchmark
+    public int expiredToken() throws Exception {
+        return atDepth(stackDepth, () -> filter("Bearer " + expiredToken));
+    }
+
+    @Benchmark
+    public int objectMapperBaseline() throws Exception {
+        return atDepth(stackDepth, () -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            try {
+                throw new ApiException(ErrorDefine.UNAUTHORIZED);
+            } catch (ApiException e) {
+                ErrorDefine error = e.getError();
+                response.setStatus(error.getHttpStatus().value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.setCharacterEncoding("UTF-8");
+                objectMapper.writeValue(response.getWriter(), ApiResponse.fail(error.getCode(), error.getMessage()));
+            }
+            return response.getContentAsByteArray().length;
+        });
+    }
+
+    private int filter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/resumes");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response.getContentAsByteArray().length;
+    }
+
+    private static int atDepth(int depth, ResponseTask task) throws Exception {
+        return depth <= 0 ? task.run() : atDepth(depth - 1, task);
+    }
+
+    @FunctionalInterface
+    private interface ResponseTask {
+        int run() throws Exception;
+    }
+}
@@ -0,0 +1,85 @@
+package com.nonggle.server.file;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 5~20MB 프로필 이미지 저장 비용 (스트리밍 기록 + 해시 vs 기존 Files.copy)
+// 같은 내용이 반복 저장되므로 매 호출 후 업로드 디렉토리를 비운다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileStorageBenchmark {
+
+    @Param({"5", "10", "20"})
+    public int sizeMb;
+
+    private Path uploadDir;
+    private FileStorageService fileStorageService;
+    private MockMultipartFile image;
+
+    @Setup
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("nonggle-upload-bench");
+        // DB(참조 수)는 제외하고 디스크 기록 비용만 측정: 항상 새 blob으로 취급
+        FileBlobRepository fileBlobRepository = Mockito.mock(FileBlobRepository.class);
+        fileStorageService = new FileStorageService(
+                "http://localhost:8080", uploadDir.toString(), 32L * 1024 * 1024, fileBlobRepository,
+                new ImageVariantGenerator(task -> { }, fileBlobRepository, event -> { }), // 축소본 생성은 업로드 응답 경로 밖이므로 제외
+                Mockito.mock(PlatformTransactionManager.class), Clock.systemUTC(), new SimpleMeterRegistry());
+
+        byte[] content = new byte[sizeMb * 1024 * 1024];
+        new Random(42).nextBytes(content);
+        content[0] = (byte) 0xFF; // JPEG 매직 넘버
+        content[1] = (byte) 0xD8;
+        content[2] = (byte) 0xFF;
+        image = new MockMultipartFile("file", "profile.jpg", "image/jpeg", content);
+    }
+
+    @TearDown(Level.Invocation)
+    public void cleanUploads() throws IOException {
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            for (Path file : files.toList()) {
+                if (!file.getFileName().toString().equals(".tmp")) {
+                    FileSystemUtils.deleteRecursively(file);
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Benchmark
+    public StoredFile storeFile() {
+        return fileStorageService.storeFile(image);
+    }
+
+    @Benchmark
+    public long legacyFilesCopy() throws IOException {
+        return Files.copy(image.getInputStream(), uploadDir.resolve(UUID.randomUUID() + "_profile.jpg"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.nonggle.server.resume;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.nonggle.server.common.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 인코딩별 전송 크기와 서버 CPU 비용 (이력서 목록 ApiResponse)
+ * - 처리량(ops/s)의 역수 = 응답 하나를 만드는 CPU 시간
+ * - 전송 크기는 setUp에서 형식별로 한 번 출력 (gzip은 Tomcat 기본 압축 수준 = Deflater.DEFAULT_COMPRESSION)
+ * - ResumeFixtures는 같은 문장을 반복해 채우므로 실제 데이터보다 gzip 압축률이 높게 나온다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseEncodingBenchmark {
+
+    private static final TypeReference<ApiResponse<List<ResumeResponse>>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"1", "50"})
+    public int resumeCount;
+
+    private final ObjectWriter jsonWriter = writer(new ObjectMapper());
+    private final ObjectWriter cborWriter = writer(new ObjectMapper(new CBORFactory()));
+    private final ObjectWriter smileWriter = writer(new ObjectMapper(new SmileFactory()));
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(4 * 1024 * 1024);
+
+    private ApiResponse<List<ResumeResponse>> response;
+
+    @Setup
+    public void setUp() throws IOException {
+        response = ApiResponse.success(ResumeFixtures.resumes(resumeCount, 5).stream().map(ResumeResponse::from).toList());
+
+        System.out.printf("%n[bytes on wire] resumeCount=%d json=%d json+gzip=%d cbor=%d cbor+gzip=%d smile=%d smile+gzip=%d%n",
+                resumeCount, json(), jsonGzip(), cbor(), cborGzip(), smile(), smileGzip());
+    }
+
+    @Benchmark
+    public int json() throws IOException {
+        return encode(jsonWriter, false);
+    }
+
+    @Benchmark
+    public int jsonGzip() throws IOException {
+        return encode(jsonWriter, true);
+    }
+
+    @Benchmark
+    public int cbor() throws IOException {
+        return encode(cborWriter, false);
+    }
+
+    @Benchmark
+    public int cborGzip() throws IOException {
+        return encode(cborWriter, true);
+    }
+
+    @Benchmark
+    public int smile() throws IOException {
+        return encode(smileWriter, false);
+    }
+
+    @Benchmark
+    public int smileGzip() throws IOException {
+        return encode(smileWriter, true);
+    }
+
+    private int encode(ObjectWriter writer, boolean gzip) throws IOException {
+        out.reset();
+        if (gzip) {
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192)) {
+                writer.writeValue(gzipOut, response);
+            }
+        } else {
+            writer.writeValue(out, response);
+        }
+        return out.size();
+    }
+
+    // 운영 설정(JacksonConfig)과 같이 Blackbird 적용
+    private static ObjectWriter writer(ObjectMapper objectMapper) {
+        return objectMapper.registerModule(new BlackbirdModule()).writerFor(RESPONSE_TYPE);
+    }
+}
@@ -0,0 +1,62 @@
+package com.nonggle.server.resume;
+
+import com.nonggle.server.user.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크용 실제 크기에 가까운 이력서 데이터
+public final class ResumeFixtures {
+
+    private static final String PROFILE_IMAGE_HASH = "abcd" + "0".repeat(60);
+
+    private ResumeFixtures() {
+    }
+
+    public static Resume resume(long id, int careerCount) {
+        User user = new User("kakao_" + id);
+        user.setId(1L);
+
+        List<Resume.CareerData> careers = new ArrayList<>();
+        for (int i = 0; i < careerCount; i++) {
+            careers.add(new Resume.CareerData(
+                    "2015-03", "2017-02", "24m",
+                    fill("농장 관리 및 작물 재배 업무 ", 500),
+                    fill("시설 하우스 토마토 재배, 병해충 방제, 수확 및 선별 작업을 담당했습니다. ", 1000)
+            ));
+        }
+
+        return Resume.builder()
+                .id(id)
+                .user(user)
+                .userName("홍길동")
+                .userAge("58")
+                .birthDate("1967-05-12")
+                .gender("MALE")
+                .certificationTitles(new ArrayList<>(List.of("지게차운전기능사", "유기농업기능사", "종자기능사")))
+                .careerList(careers)
+                .totalCareer("27y3m")
+                .introduce(fill("성실하고 책임감 있게 일합니다. ", 1000))
+                .introduceDetail(fill("30년간 다양한 작물 재배 경험을 바탕으로 꼼꼼하게 일하겠습니다. ", 2000))
+                .personalityTags(new ArrayList<>(List.of("성실함", "꼼꼼함", "책임감")))
+                .profileImageUrl("http://localhost:8080/uploads/ab/cd/" + PROFILE_IMAGE_HASH + ".jpg")
+                .profileImageHash(PROFILE_IMAGE_HASH)
+                .profileImageVariantsReady(true)
+                .createdAt("2025-01-01T10:00:00")
+                .updatedAt("2025-01-02T10:00:00")
+                .build();
+    }
+
+    public static List<Resume> resumes(int count, int careerCount) {
+        List<Resume> resumes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            resumes.add(resume(i + 1, careerCount));
+        }
+        return resumes;
+    }
+
+    // 컬럼 최대 길이(length)만큼 문장을 반복해서 채운다.
+    private static String fill(String text, int length) {
+        return text.repeat(length / text.length() + 1).substring(0, length);
+    }
+}
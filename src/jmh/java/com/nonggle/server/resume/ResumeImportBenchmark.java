@@ -0,0 +1,113 @@
+package com.nonggle.server.resume;
+
+import com.nonggle.server.NonggleServerApplication;
+import com.nonggle.server.user.User;
+import com.nonggle.server.user.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 이력서 등록 처리량 (기존 1건씩 createResume vs 일괄 등록 importResumes), 결과 단위: 이력서/초
+// 이력서 1건 = resume 1행 + 자격증 3행 + 경력 3행 + 성격 3행 (총 10행) → 행/초는 결과 × 10
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResumeImportBenchmark {
+
+    private static final int RESUMES_PER_INVOCATION = 500;
+
+    private ConfigurableApplicationContext context;
+    private ResumeService resumeService;
+    private JdbcTemplate jdbcTemplate;
+    private Long userId;
+    private List<ResumeCreateRequest> requests;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(NonggleServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:import-bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "jwt.secret=benchmark-secret-key-benchmark-secret-key",
+                        "jwt.access-token-expiration=1800000",
+                        "jwt.refresh-token-expiration=1209600000",
+                        "app.base-url=http://localhost:8080",
+                        "file.upload-dir=" + System.getProperty("java.io.tmpdir") + "/nonggle-import-bench",
+                        "file.pdf-dir=" + System.getProperty("java.io.tmpdir") + "/nonggle-import-bench-pdf",
+                        "resume.pdf.cache-dir=" + System.getProperty("java.io.tmpdir") + "/nonggle-import-bench-cache",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        resumeService = context.getBean(ResumeService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        userId = context.getBean(UserRepository.class).save(new User("kakao_bench")).getId();
+
+        requests = new ArrayList<>(RESUMES_PER_INVOCATION);
+        for (int i = 0; i < RESUMES_PER_INVOCATION; i++) {
+            requests.add(request(i));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteResumes() {
+        jdbcTemplate.update("delete from resume_certification_tags");
+        jdbcTemplate.update("delete from resume_career_data");
+        jdbcTemplate.update("delete from resume_personality_tags");
+        jdbcTemplate.update("delete from resume");
+    }
+
+    @TearDown
+    public void tearDown() {
+        SpringApplication.exit(context);
+    }
+
+    // 기존 방식: 요청마다 트랜잭션 1개, insert 1건씩
+    @Benchmark
+    @OperationsPerInvocation(RESUMES_PER_INVOCATION)
+    public void createOneByOne() {
+        for (ResumeCreateRequest request : requests) {
+            resumeService.createResume(userId, request, null);
+        }
+    }
+
+    // 일괄 등록: 트랜잭션 1개, JDBC batch insert
+    @Benchmark
+    @OperationsPerInvocation(RESUMES_PER_INVOCATION)
+    public ResumeImportResponse importBatched() {
+        return resumeService.importResumes(userId, requests.iterator());
+    }
+
+    private static ResumeCreateRequest request(int index) {
+        List<ResumeCreateRequest.CareerFormData> careers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            careers.add(new ResumeCreateRequest.CareerFormData(
+                    "2015-03", "2017-02", "24m", "농장 관리 및 작물 재배 " + i, "시설 하우스 토마토 재배, 병해충 방제 " + i));
+        }
+        return new ResumeCreateRequest(
+                "홍길동" + index, "58", "1967-05-12", "MALE",
+                List.of(new ResumeCreateRequest.CertificationTag("지게차운전기능사"),
+                        new ResumeCreateRequest.CertificationTag("유기농업기능사"),
+                        new ResumeCreateRequest.CertificationTag("종자기능사")),
+                careers, "27y3m", "성실하고 책임감 있게 일합니다.", "30년간 다양한 작물 재배 경험이 있습니다.",
+                List.of(new ResumeCreateRequest.PersonalityTag("성실함"),
+                        new ResumeCreateRequest.PersonalityTag("꼼꼼함"),
+                        new ResumeCreateRequest.PersonalityTag("책임감")));
+    }
+}
@@ -0,0 +1,132 @@
+package com.nonggle.server.resume;
+
+import com.nonggle.server.file.FileBlobRepository;
+import com.nonggle.server.file.FileStorageService;
+import com.nonggle.server.file.ImageVariantGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 이력서 PDF 렌더링 지연 시간과, 일부 이력서가 수정되는 상황에서의 디스크 캐시 적중률
+// (downloadWithCache 결과의 cacheHits / (cacheHits + cacheMisses) = 적중률)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResumePdfBenchmark {
+
+    private static final int RESUME_COUNT = 20;
+
+    @Param({"1", "10", "30"})
+    public int careerCount;
+
+    @Param({"0.0", "0.1"})
+    public double updateRate; // 다운로드 요청 사이에 이력서가 수정되어 있을 확률
+
+    private Path workDir;
+    private ResumePdfRenderer renderer;
+    private ResumePdfRenderService renderService;
+    private Path profileImage;
+    private List<ResumeResponse> resumes;
+    private int[] versions;
+    private Random random;
+
+    @Setup
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("nonggle-pdf-bench");
+        Path uploadDir = workDir.resolve("uploads");
+        FileBlobRepository fileBlobRepository = Mockito.mock(FileBlobRepository.class);
+        FileStorageService fileStorageService = new FileStorageService(
+                "http://localhost:8080", uploadDir.toString(), 32L * 1024 * 1024,
+                fileBlobRepository, new ImageVariantGenerator(task -> { }, fileBlobRepository, event -> { }),
+                Mockito.mock(PlatformTransactionManager.class), Clock.systemUTC(),
+                new SimpleMeterRegistry());
+
+        resumes = new ArrayList<>();
+        for (int i = 0; i < RESUME_COUNT; i++) {
+            resumes.add(ResumeResponse.from(ResumeFixtures.resume(i + 1, careerCount)));
+        }
+        versions = new int[RESUME_COUNT];
+        random = new Random(42);
+
+        // 픽스처의 256px 축소본 URL 위치에 실제 JPEG 배치 (사진 포함 비용까지 측정)
+        String variantUrl = resumes.get(0).profileImageVariants().get(256);
+        profileImage = uploadDir.resolve(variantUrl.substring("http://localhost:8080/uploads/".length()));
+        Files.createDirectories(profileImage.getParent());
+        ImageIO.write(new BufferedImage(256, 256, BufferedImage.TYPE_INT_RGB), "jpg", profileImage.toFile());
+
+        renderer = new ResumePdfRenderer(System.getProperty("resume.pdf.font-path", ""));
+        renderService = new ResumePdfRenderService(renderer, fileStorageService, Runnable::run, workDir.resolve("cache").toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+
+    // 캐시 없이 매번 렌더링할 때의 지연 시간
+    @Benchmark
+    public void renderUncached() throws IOException {
+        renderer.render(resumes.get(0), profileImage, OutputStream.nullOutputStream());
+    }
+
+    // 캐시를 거친 다운로드 (updateRate 비율만큼 버전이 바뀌어 다시 렌더링)
+    @Benchmark
+    public Path downloadWithCache(CacheCounters counters) {
+        int index = random.nextInt(RESUME_COUNT);
+        if (random.nextDouble() < updateRate) {
+            versions[index]++;
+        }
+        ResumeResponse resume = withVersion(resumes.get(index), versions[index]);
+
+        long hits = renderService.getCacheHitCount();
+        long misses = renderService.getCacheMissCount();
+        Path pdf = renderService.render(resume).join();
+        counters.cacheHits += renderService.getCacheHitCount() - hits;
+        counters.cacheMisses += renderService.getCacheMissCount() - misses;
+        return pdf;
+    }
+
+    private static ResumeResponse withVersion(ResumeResponse r, int version) {
+        return new ResumeResponse(r.id(), r.userId(), r.userName(), r.birthDate(), r.userAge(), r.userGender(),
+                r.certificationList(), r.careerList(), r.totalCareer(), r.introduce(), r.introduceDetail(),
+                r.personalityList(), r.profileImageUrl(), r.profileImageVariants(), r.createdAt(),
+                r.updatedAt(), (long) version);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CacheCounters {
+        public long cacheHits;
+        public long cacheMisses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cacheHits = 0;
+            cacheMisses = 0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.nonggle.server.resume;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.nonggle.server.common.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이력서 목록 응답 생성 비용 측정 (엔티티 → DTO 매핑, JSON 직렬화)
+ * - stream*: 응답 OutputStream에 바로 쓰는 경우 (Spring MessageConverter와 같은 방식, byte[] 복사 없음)
+ * - 기본 ObjectMapper / 응답 타입별로 캐시한 ObjectWriter / Blackbird 모듈 적용(JacksonConfig) 비교
+ * - 50개 목록 기준: -Pjmh.includes='ResumeResponseBenchmark.stream' 실행 후 resumeCount=50 결과 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResumeResponseBenchmark {
+
+    @Param({"10", "50"})
+    public int resumeCount;
+
+    @Param({"10", "50"})
+    public int careerCount;
+
+    private static final TypeReference<ApiResponse<List<ResumeResponse>>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectWriter cachedWriter = objectMapper.writerFor(RESPONSE_TYPE);
+    private final ObjectWriter blackbirdWriter = new ObjectMapper()
+            .registerModule(new BlackbirdModule())
+            .writerFor(RESPONSE_TYPE);
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024 * 1024);
+
+    private List<Resume> resumes;
+    private ApiResponse<List<ResumeResponse>> response;
+
+    @Setup
+    public void setUp() {
+        resumes = ResumeFixtures.resumes(resumeCount, careerCount);
+        response = ApiResponse.success(resumes.stream().map(ResumeResponse::from).toList());
+    }
+
+    @Benchmark
+    public List<ResumeResponse> mapFromEntity() {
+        return resumes.stream().map(ResumeResponse::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public int streamDefault() throws Exception {
+        out.reset();
+        objectMapper.writeValue(out, response);
+        return out.size();
+    }
+
+    @Benchmark
+    public int streamCachedWriter() throws Exception {
+        out.reset();
+        cachedWriter.writeValue(out, response);
+        return out.size();
+    }
+
+    @Benchmark
+    public int streamBlackbird() throws Exception {
+        out.reset();
+        blackbirdWriter.writeValue(out, response);
+        return out.size();
+    }
+}
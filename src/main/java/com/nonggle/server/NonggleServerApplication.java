@@ -3,11 +3,27 @@ package com.nonggle.server;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Map;
+
 @SpringBootApplication
 public class NonggleServerApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(NonggleServerApplication.class, args);
+		SpringApplication application = new SpringApplication(NonggleServerApplication.class);
+		// 외부 설정(application.yml, 환경 변수 등)에 값이 없을 때만 쓰이는 기본값
+		application.setDefaultProperties(Map.of(
+				"management.server.port", "8081", // actuator는 외부에 열지 않는 별도 포트에서 제공
+				"management.endpoints.web.exposure.include", "health,prometheus",
+				"management.observations.annotations.enabled", "true", // @Timed 처리
+				"management.metrics.distribution.percentiles-histogram.http.server.requests", "true",
+				"management.metrics.distribution.percentiles-histogram.hikaricp.connections", "true",
+				"management.health.redis.enabled", "false", // redis는 resume.cache.type=redis 일 때만 사용
+				// 1KB 이상 JSON 응답 gzip 압축 (이력서는 자기소개/경력 상세 등 긴 텍스트 위주). PDF/이미지는 대상 아님
+				"server.compression.enabled", "true",
+				"server.compression.min-response-size", "1KB",
+				"server.compression.mime-types", "application/json,application/x-ndjson,application/cbor,application/x-jackson-smile,text/plain"
+		));
+		application.run(args);
 	}
 
 }
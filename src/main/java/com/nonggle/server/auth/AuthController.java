@@ -4,6 +4,8 @@ import com.nonggle.server.common.ApiResponse;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 //인증 관련 API 컨트롤러
 @RestController
 @RequestMapping("/auth")
@@ -17,12 +19,12 @@ public class AuthController {
 
 
     @PostMapping("/kakao")
-    public ApiResponse<LoginResponse> kakaoLogin( // 카카오로그인 실동작 부분
-                                                  @RequestBody KakaoLoginRequest request
+    public CompletableFuture<ApiResponse<LoginResponse>> kakaoLogin( // 카카오로그인 실동작 부분
+                                                                     @RequestBody KakaoLoginRequest request
     ) {
-        return ApiResponse.success(
-                authService.kakaoLogin(request.accessToken())
-        );
+        // 카카오 응답을 기다리는 동안 Tomcat 스레드를 반환 (servlet async)
+        return authService.kakaoLoginAsync(request.accessToken())
+                .thenApply(ApiResponse::success);
     }
 
     @PostMapping("/token/refresh")
@@ -35,10 +37,19 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ApiResponse<Void> logout(
+    public ApiResponse<Void> logout( // body에 refreshToken이 있으면 이 기기만, 없으면 모든 기기 로그아웃
+            @AuthenticationPrincipal Long userId,
+            @RequestBody(required = false) RefreshTokenRequest request
+    ) {
+        authService.logout(userId, request != null ? request.refreshToken() : null);
+        return ApiResponse.success(null);
+    }
+
+    @PostMapping("/logout/all")
+    public ApiResponse<Void> logoutAll( // 모든 기기 로그아웃
             @AuthenticationPrincipal Long userId
     ) {
-        authService.logout(userId);
+        authService.logoutAll(userId);
         return ApiResponse.success(null);
     }
 }
@@ -5,11 +5,17 @@ import com.nonggle.server.user.User;
 import com.nonggle.server.user.UserRepository;
 import com.nonggle.server.common.ApiException;
 import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.common.TokenHasher;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 // 인증 비즈니스 로직
 
@@ -18,26 +24,41 @@ public class AuthService {
 
     private final KakaoClient kakaoClient;
     private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final JwtProvider jwtProvider;
     private final Clock clock;
+    private final Executor authTaskExecutor;
 
     public AuthService(
             KakaoClient kakaoClient,
             UserRepository userRepository,
+            RefreshTokenRepository refreshTokenRepository,
             JwtProvider jwtProvider,
-            Clock clock
+            Clock clock,
+            @Qualifier("authTaskExecutor") Executor authTaskExecutor
     ) {
         this.kakaoClient = kakaoClient;
         this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
         this.jwtProvider = jwtProvider;
         this.clock = clock;
+        this.authTaskExecutor = authTaskExecutor;
     }
 
     public LoginResponse kakaoLogin(String accessToken) {
         // 1️⃣ 카카오 사용자 정보 조회
         KakaoUser kakaoUser = kakaoClient.getUserInfo(accessToken);
+        return issueLoginTokens(kakaoUser);
+    }
+
+    // 카카오 호출 동안 요청 스레드를 점유하지 않는 로그인 (DB 작업은 authTaskExecutor에서 수행)
+    public CompletableFuture<LoginResponse> kakaoLoginAsync(String accessToken) {
+        return kakaoClient.getUserInfoAsync(accessToken)
+                .thenApplyAsync(this::issueLoginTokens, authTaskExecutor);
+    }
 
-        // 2️⃣ DB에서 사용자 조회 및 리프레시 토큰 발급/갱신
+    private LoginResponse issueLoginTokens(KakaoUser kakaoUser) {
+        // 2️⃣ DB에서 사용자 조회 (신규 사용자만 저장)
         User user = userRepository.findByKakaoId(kakaoUser.kakaoId())
                 .orElseGet(() ->
                         userRepository.save(
@@ -47,11 +68,15 @@ public class AuthService {
                         )
                 );
 
+        // 로그인마다 새 token family 발급 (기기별 세션)
         String newJwtAccessToken = jwtProvider.createAccessToken(user.getId());
         String newRefreshToken = jwtProvider.createRefreshToken(user.getId());
-        Instant newRefreshTokenExpiryDate = Instant.now(clock).plus(14, ChronoUnit.DAYS); // 2주 후 만료 시각 설정
-        user.updateRefreshToken(newRefreshToken, newRefreshTokenExpiryDate);
-        userRepository.save(user);
+        refreshTokenRepository.save(new RefreshToken(
+                user.getId(),
+                UUID.randomUUID().toString(),
+                TokenHasher.sha256Hex(newRefreshToken),
+                refreshTokenExpiryFromNow()
+        ));
 
         // 3️⃣ 응답 반환
         return new LoginResponse(
@@ -61,39 +86,61 @@ public class AuthService {
         );
     }
 
+    @Transactional
     public LoginResponse refreshToken(String refreshToken) {
         // 1️⃣ RefreshToken 유효성 검사
         if (refreshToken == null || refreshToken.isBlank()) {
-            throw new ApiException(ErrorDefine.REFRESH_TOKEN_MISSING);
+            throw ApiException.expected(ErrorDefine.REFRESH_TOKEN_MISSING);
         }
 
-        User user = userRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new ApiException(ErrorDefine.REFRESH_TOKEN_INVALID));
+        // token_hash unique 인덱스로 단건 조회
+        String tokenHash = TokenHasher.sha256Hex(refreshToken);
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> ApiException.expected(ErrorDefine.REFRESH_TOKEN_INVALID));
 
-        if (user.getRefreshTokenExpiryDate() == null || Instant.now(clock).isAfter(user.getRefreshTokenExpiryDate())) {
-            throw new ApiException(ErrorDefine.REFRESH_TOKEN_EXPIRED);
+        if (storedToken.isExpired(Instant.now(clock))) {
+            throw ApiException.expected(ErrorDefine.REFRESH_TOKEN_EXPIRED);
         }
 
-        // 2️⃣ 새로운 AccessToken 및 RefreshToken 발급 (RefreshToken Rotation)
-        String newAccessToken = jwtProvider.createAccessToken(user.getId());
-        String newRefreshToken = jwtProvider.createRefreshToken(user.getId());
-        Instant newRefreshTokenExpiryDate = Instant.now(clock).plus(14, ChronoUnit.DAYS);
+        // 2️⃣ 새로운 AccessToken 및 RefreshToken 발급 (RefreshToken Rotation, 같은 family 행만 갱신)
+        Long userId = storedToken.getUserId();
+        String newAccessToken = jwtProvider.createAccessToken(userId);
+        String newRefreshToken = jwtProvider.createRefreshToken(userId);
 
-        user.updateRefreshToken(newRefreshToken, newRefreshTokenExpiryDate);
-        userRepository.save(user);
+        int rotated = refreshTokenRepository.rotate(
+                storedToken.getId(), tokenHash, TokenHasher.sha256Hex(newRefreshToken), refreshTokenExpiryFromNow());
+        if (rotated == 0) {
+            // 다른 요청이 먼저 같은 토큰으로 갱신함
+            throw ApiException.expected(ErrorDefine.REFRESH_TOKEN_INVALID);
+        }
 
         // 3️⃣ 응답 반환
         return new LoginResponse(
-                user.getId(),
+                userId,
                 newAccessToken,
                 newRefreshToken
         );
     }
 
-    public void logout(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorDefine.UNAUTHORIZED));
-        user.invalidateRefreshToken();
-        userRepository.save(user);
+    // RefreshToken이 있으면 그 기기(family)만 로그아웃, 없으면 기존 클라이언트처럼 모든 기기 로그아웃
+    // 이미 회전/만료/정리된 토큰이면 할 일 없음
+    @Transactional
+    public void logout(Long userId, String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            logoutAll(userId);
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.deleteFamily(token.getFamilyId(), userId));
+    }
+
+    // 사용자의 모든 기기 로그아웃
+    @Transactional
+    public void logoutAll(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    private Instant refreshTokenExpiryFromNow() {
+        return Instant.now(clock).plus(14, ChronoUnit.DAYS); // 2주 후 만료 시각 설정
     }
 }
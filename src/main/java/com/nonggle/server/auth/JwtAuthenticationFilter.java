@@ -1,51 +1,37 @@
 package com.nonggle.server.auth;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.nonggle.server.common.ApiResponse;
 import com.nonggle.server.common.ApiException;
 import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.common.ErrorResponseWriter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.MediaType;
+import org.slf4j.MDC;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 
 //HTTP 요청의 토큰 인증 처리
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtProvider jwtProvider;
-    private final ObjectMapper objectMapper;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    public static final String USER_ID_MDC_KEY = "userId"; // 요청 처리 중 남는 로그에 사용자 ID 포함
 
-    // PermitAll로 설정된 경로들
-    private final List<String> publicPaths = Arrays.asList(
-            "/auth/kakao",
-            "/auth/token/refresh",
-            "/hello",
-            "/health",
-            "/h2-console/**",
-            "/uploads/**"
-    );
+    private final JwtProvider jwtProvider;
+    private final ErrorResponseWriter errorResponseWriter;
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider, ObjectMapper objectMapper) {
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, ErrorResponseWriter errorResponseWriter) {
         this.jwtProvider = jwtProvider;
-        this.objectMapper = objectMapper;
+        this.errorResponseWriter = errorResponseWriter;
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         // public path의 경우 필터를 거치지 않음
-        return publicPaths.stream()
-                .anyMatch(p -> pathMatcher.match(p, request.getRequestURI()));
+        return PublicPaths.matches(request.getRequestURI());
     }
 
     @Override
@@ -58,7 +44,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String authHeader = request.getHeader("Authorization");
 
             if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-                throw new ApiException(ErrorDefine.UNAUTHORIZED);
+                throw ApiException.expected(ErrorDefine.UNAUTHORIZED);
             }
 
             String token = authHeader.substring(7);
@@ -68,22 +54,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             JwtAuthenticationToken authentication = new JwtAuthenticationToken(userId);
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            filterChain.doFilter(request, response);
+            MDC.put(USER_ID_MDC_KEY, String.valueOf(userId));
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                MDC.remove(USER_ID_MDC_KEY);
+            }
         } catch (ApiException e) {
             writeErrorResponse(response, e.getError());
         }
     }
 
     private void writeErrorResponse(HttpServletResponse response, ErrorDefine error) throws IOException {
-        response.setStatus(error.getHttpStatus().value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
         // WWW-Authenticate 헤더 추가 (Ktor 대응)
         if (error.getHttpStatus() == org.springframework.http.HttpStatus.UNAUTHORIZED) {
             response.setHeader("WWW-Authenticate", "Bearer realm=\"nonggle\", error=\"" + error.name() + "\"");
         }
 
-        objectMapper.writeValue(response.getWriter(), ApiResponse.fail(error.getCode(), error.getMessage()));
+        errorResponseWriter.write(response, error); // 미리 직렬화된 본문
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,22 @@
 package com.nonggle.server.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import com.nonggle.server.common.ApiException;
 import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.common.TokenHasher;
 import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,55 +24,117 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtProvider {
 
     private final Key key;
+    private final JwtParser parser; // 불변/thread-safe 이므로 한 번만 생성해서 재사용
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    // 검증이 끝난 AccessToken 캐시 (key: 토큰 SHA-256, 토큰의 exp 시각에 만료)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    private final Timer signTimer;
+    private final Timer verifyTimer; // 캐시 미스일 때의 실제 서명 검증 시간
+
     public JwtProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+            MeterRegistry meterRegistry
     ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize) // W-TinyLFU 기반 크기 제한
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+        this.signTimer = Timer.builder("jwt.sign")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     public String createAccessToken(Long userId) {
-        return Jwts.builder()
+        return signTimer.record(() -> Jwts.builder()
                 .setSubject(String.valueOf(userId))
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
                 .signWith(key)
-                .compact();
+                .compact());
     }
 
     public String createRefreshToken(Long userId) {
-        return Jwts.builder()
+        return signTimer.record(() -> Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 같은 초에 발급돼도 토큰(해시)이 겹치지 않도록
                 .setSubject(String.valueOf(userId))
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
                 .signWith(key)
-                .compact();
+                .compact());
     }
 
     public Long getUserId(String token) {
+        if (token == null || token.isBlank()) {
+            throw ApiException.expected(ErrorDefine.TOKEN_INVALID);
+        }
+        // 캐시 미스일 때만 서명 검증 + claims 파싱. 검증 실패는 캐시하지 않는다.
+        return verifiedTokens.get(TokenHasher.sha256Hex(token), digest -> verifyTimer.record(() -> verify(token))).userId();
+    }
+
+    // 검증 캐시의 hit/miss/eviction 통계
+    public CacheStats getVerifiedTokenCacheStats() {
+        return verifiedTokens.stats();
+    }
+
+    private VerifiedToken verify(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parser.parseClaimsJws(token).getBody();
 
-            return Long.parseLong(claims.getSubject());
+            long expiresAt = claims.getExpiration() != null
+                    ? claims.getExpiration().getTime()
+                    : System.currentTimeMillis() + accessTokenExpiration;
+            return new VerifiedToken(Long.parseLong(claims.getSubject()), expiresAt);
         } catch (ExpiredJwtException e) {
-            throw new ApiException(ErrorDefine.TOKEN_EXPIRED);
+            throw ApiException.expected(ErrorDefine.TOKEN_EXPIRED); // 모바일 클라이언트에서 흔한 정상 흐름 → 스택 없이
         } catch (UnsupportedJwtException | MalformedJwtException | SignatureException | IllegalArgumentException e) {
-            throw new ApiException(ErrorDefine.TOKEN_INVALID);
+            throw ApiException.expected(ErrorDefine.TOKEN_INVALID);
+        }
+    }
+
+    private record VerifiedToken(Long userId, long expiresAtMillis) {
+    }
+
+    // 캐시 엔트리를 토큰 exp 시각에 맞춰 제거 (만료된 토큰은 다시 파싱되어 TOKEN_EXPIRED 처리됨)
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
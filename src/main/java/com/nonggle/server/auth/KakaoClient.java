@@ -1,76 +1,226 @@
 package com.nonggle.server.auth;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nonggle.server.common.TokenHasher;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import okhttp3.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import okhttp3.*;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 public class KakaoClient {
 
     private static final String KAKAO_USER_API = "https://kapi.kakao.com/v2/user/me";
 
-    private final OkHttpClient client = new OkHttpClient();
-    private final ObjectMapper mapper = new ObjectMapper();
+    private final OkHttpClient client; // AppConfig에서 커넥션 풀/타임아웃이 설정된 공용 클라이언트
+    private final JsonFactory jsonFactory;
+    private final String userApiUrl;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    // 카카오 accessToken(SHA-256) → 사용자 조회 결과. 같은 토큰의 동시 요청은 하나의 호출을 공유한다.
+    private final AsyncCache<String, KakaoUser> userCache;
+    private final LongAdder outboundCalls = new LongAdder();
+
+    private final MeterRegistry meterRegistry;
+
+    public KakaoClient(
+            OkHttpClient client,
+            ObjectMapper objectMapper,
+            CircuitBreaker kakaoCircuitBreaker,
+            Bulkhead kakaoBulkhead,
+            @Value("${kakao.user-api-url:" + KAKAO_USER_API + "}") String userApiUrl,
+            @Value("${kakao.user-cache.ttl-seconds:30}") long userCacheTtlSeconds,
+            @Value("${kakao.user-cache.maximum-size:10000}") long userCacheMaximumSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.client = client;
+        this.jsonFactory = objectMapper.getFactory();
+        this.userApiUrl = userApiUrl;
+        this.circuitBreaker = kakaoCircuitBreaker;
+        this.bulkhead = kakaoBulkhead;
+        this.userCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(userCacheTtlSeconds))
+                .maximumSize(userCacheMaximumSize)
+                .recordStats()
+                .buildAsync();
+        this.meterRegistry = meterRegistry;
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "kakao.users");
+    }
 
     /**
      * @param accessToken Android에서 전달받은 Kakao access token
      */
     public KakaoUser getUserInfo(String accessToken) {
+        try {
+            return getUserInfoAsync(accessToken).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof KakaoAuthException kakaoAuthException) {
+                throw kakaoAuthException;
+            }
+            throw new KakaoAuthException(KakaoAuthError.UNKNOWN, "Unexpected Kakao client error", e.getCause());
+        }
+    }
+
+    /**
+     * 요청 스레드를 점유하지 않고 OkHttp dispatcher에서 카카오 API를 호출한다.
+     * 실패 시 future는 KakaoAuthException으로 완료된다.
+     */
+    public CompletableFuture<KakaoUser> getUserInfoAsync(String accessToken) {
         if (accessToken == null || accessToken.isBlank()) {
             // 프론트/서버 입력값 문제
-            throw new KakaoAuthException(KakaoAuthError.INVALID_INPUT, "Kakao accessToken is missing");
+            return CompletableFuture.failedFuture(
+                    new KakaoAuthException(KakaoAuthError.INVALID_INPUT, "Kakao accessToken is missing"));
+        }
+
+        // 실패한 호출은 캐시에서 자동 제거되므로 재시도 시 다시 카카오를 호출한다.
+        return userCache.get(TokenHasher.sha256Hex(accessToken), (tokenHash, executor) -> fetchUserInfo(accessToken));
+    }
+
+    // 캐시 통계 (hitCount = 절약된 카카오 호출 수)
+    public CacheStats getUserCacheStats() {
+        return userCache.synchronous().stats();
+    }
+
+    // 실제로 카카오 API를 호출한 횟수
+    public long getOutboundCallCount() {
+        return outboundCalls.sum();
+    }
+
+    // circuit breaker → bulkhead 순서로 허가를 받은 뒤에만 카카오를 호출
+    private CompletableFuture<KakaoUser> fetchUserInfo(String accessToken) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(
+                    new KakaoAuthException(KakaoAuthError.KAKAO_SERVER_ERROR, "Kakao circuit breaker is open"));
         }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            return CompletableFuture.failedFuture(
+                    new KakaoAuthException(KakaoAuthError.KAKAO_SERVER_ERROR, "Too many concurrent Kakao calls"));
+        }
+
+        long start = circuitBreaker.getCurrentTimestamp();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return callUserApi(accessToken).whenComplete((user, e) -> {
+            sample.stop(Timer.builder("kakao.user-info")
+                    .tag("outcome", outcomeOf(e))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            bulkhead.onComplete();
+            long duration = circuitBreaker.getCurrentTimestamp() - start;
+            if (e == null) {
+                circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+            } else {
+                circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), e);
+            }
+        });
+    }
+
+    // success 또는 KakaoAuthError 이름 (UNAUTHORIZED, KAKAO_SERVER_ERROR, IO_ERROR 등)
+    private static String outcomeOf(Throwable e) {
+        if (e == null) {
+            return "success";
+        }
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof KakaoAuthException kakaoAuthException
+                ? kakaoAuthException.getError().name()
+                : KakaoAuthError.UNKNOWN.name();
+    }
+
+    private CompletableFuture<KakaoUser> callUserApi(String accessToken) {
+        outboundCalls.increment();
 
         Request request = new Request.Builder()
-                .url(KAKAO_USER_API)
+                .url(userApiUrl)
                 .get()
                 .addHeader("Authorization", "Bearer " + accessToken)
                 .addHeader("Content-type", "application/x-www-form-urlencoded;charset=utf-8")
                 .build();
 
-        try (Response response = client.newCall(request).execute()) {
-
-            int status = response.code();
-            String bodyStr = response.body() != null ? response.body().string() : "";
-
-            if (!response.isSuccessful()) {
-                // 카카오 토큰 문제(대부분 401) / 권한 문제(403) / 카카오 서버 문제(5xx) 등
-                KakaoAuthError error = mapError(status);
-                throw new KakaoAuthException(
-                        error,
-                        "Kakao /v2/user/me failed. status=" + status + ", body=" + safeTrim(bodyStr)
-                );
+        CompletableFuture<KakaoUser> future = new CompletableFuture<>();
+        Call call = client.newCall(request);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                // 네트워크/타임아웃 문제
+                future.completeExceptionally(new KakaoAuthException(KakaoAuthError.IO_ERROR, "Kakao API IO error", e));
             }
 
-            JsonNode root = mapper.readTree(bodyStr);
-
-            // id는 필수 (없으면 응답 자체가 이상한 것)
-            JsonNode idNode = root.get("id");
-            if (idNode == null) {
-                throw new KakaoAuthException(
-                        KakaoAuthError.INVALID_RESPONSE,
-                        "Kakao response missing 'id'. body=" + safeTrim(bodyStr)
-                );
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    future.complete(readUser(response));
+                } catch (KakaoAuthException e) {
+                    // 이미 의미 있는 예외면 그대로 전달
+                    future.completeExceptionally(e);
+                } catch (IOException e) {
+                    future.completeExceptionally(new KakaoAuthException(KakaoAuthError.IO_ERROR, "Kakao API IO error", e));
+                } catch (Exception e) {
+                    // 예상 못한 런타임 문제
+                    future.completeExceptionally(new KakaoAuthException(KakaoAuthError.UNKNOWN, "Unexpected Kakao client error", e));
+                }
+            }
+        });
+        // 호출자가 future를 취소하면 진행 중인 HTTP 호출도 취소
+        future.whenComplete((user, e) -> {
+            if (e instanceof CancellationException) {
+                call.cancel();
             }
+        });
+        return future;
+    }
 
-            String id = idNode.asText();
+    private KakaoUser readUser(Response response) throws IOException {
+        int status = response.code();
 
-            return new KakaoUser(id);
+        if (!response.isSuccessful()) {
+            // 카카오 토큰 문제(대부분 401) / 권한 문제(403) / 카카오 서버 문제(5xx) 등
+            KakaoAuthError error = mapError(status);
+            throw new KakaoAuthException(
+                    error,
+                    "Kakao /v2/user/me failed. status=" + status + ", body=" + safeTrim(response.peekBody(512).string())
+            );
+        }
 
-        } catch (KakaoAuthException e) {
-            // 이미 의미 있는 예외면 그대로 던짐
-            throw e;
-        } catch (IOException e) {
-            // 네트워크/파싱 문제: 서버 내부 오류로 볼지, 외부 연동 실패로 볼지 선택 가능
-            throw new KakaoAuthException(KakaoAuthError.IO_ERROR, "Kakao API IO error", e);
-        } catch (Exception e) {
-            // 예상 못한 런타임 문제
-            throw new KakaoAuthException(KakaoAuthError.UNKNOWN, "Unexpected Kakao client error", e);
+        ResponseBody body = response.body();
+        if (body == null) {
+            throw new KakaoAuthException(KakaoAuthError.INVALID_RESPONSE, "Kakao response body is empty");
         }
+
+        // 전체 body를 String/트리로 만들지 않고, 최상위 'id' 필드를 찾는 즉시 파싱 중단
+        try (JsonParser parser = jsonFactory.createParser(body.byteStream())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new KakaoAuthException(KakaoAuthError.INVALID_RESPONSE, "Kakao response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("id".equals(fieldName) && value != null && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                    return new KakaoUser(parser.getText());
+                }
+                parser.skipChildren(); // properties, kakao_account 등 중첩 객체는 건너뜀
+            }
+        }
+
+        // id는 필수 (없으면 응답 자체가 이상한 것)
+        throw new KakaoAuthException(KakaoAuthError.INVALID_RESPONSE, "Kakao response missing 'id'");
     }
 
     private KakaoAuthError mapError(int status) {
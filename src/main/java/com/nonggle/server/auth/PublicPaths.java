@@ -0,0 +1,68 @@
+package com.nonggle.server.auth;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 인증 없이 허용되는 경로 목록 (SecurityConfig, JwtAuthenticationFilter 공용)
+public final class PublicPaths {
+
+    public static final String[] PATTERNS = {
+            "/auth/kakao",
+            "/auth/token/refresh",
+            "/hello",
+            "/health",
+            "/h2-console/**",
+            "/uploads/**"
+    };
+
+    // 시작 시 한 번만 컴파일: 정확히 일치하는 경로는 해시 조회, "/xxx/**"는 prefix 비교
+    private static final Set<String> EXACT_PATHS = new HashSet<>();
+    private static final List<String> PREFIXES = new ArrayList<>();
+    private static final List<PathPattern> OTHER_PATTERNS = new ArrayList<>();
+
+    static {
+        for (String pattern : PATTERNS) {
+            if (pattern.endsWith("/**") && !hasWildcard(pattern.substring(0, pattern.length() - 3))) {
+                PREFIXES.add(pattern.substring(0, pattern.length() - 3));
+            } else if (!hasWildcard(pattern)) {
+                EXACT_PATHS.add(pattern);
+            } else {
+                OTHER_PATTERNS.add(PathPatternParser.defaultInstance.parse(pattern));
+            }
+        }
+    }
+
+    private PublicPaths() {
+    }
+
+    public static boolean matches(String path) {
+        if (EXACT_PATHS.contains(path)) {
+            return true;
+        }
+        for (String prefix : PREFIXES) {
+            if (path.startsWith(prefix)
+                    && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        if (!OTHER_PATTERNS.isEmpty()) {
+            PathContainer pathContainer = PathContainer.parsePath(path);
+            for (PathPattern pattern : OTHER_PATTERNS) {
+                if (pattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasWildcard(String pattern) {
+        return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.indexOf('{') >= 0;
+    }
+}
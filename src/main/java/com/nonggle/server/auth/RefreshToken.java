@@ -0,0 +1,66 @@
+package com.nonggle.server.auth;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// 발급된 RefreshToken 저장소 (원문 대신 SHA-256 해시만 저장, 로그인 1회 = family 1개)
+@Entity
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expiresAt") // 만료 토큰 정리용
+        }
+)
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "family_id", length = 36, nullable = false)
+    private String familyId; // 기기(로그인 세션) 단위 식별자, rotation 후에도 유지
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    protected RefreshToken() {}
+
+    public RefreshToken(Long userId, String familyId, String tokenHash, Instant expiresAt) {
+        this.userId = userId;
+        this.familyId = familyId;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return now.isAfter(expiresAt);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
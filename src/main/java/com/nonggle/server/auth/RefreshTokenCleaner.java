@@ -0,0 +1,32 @@
+package com.nonggle.server.auth;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+
+// 만료된 RefreshToken 행 주기적 삭제 (로그아웃하지 않은 기기의 토큰이 계속 쌓이지 않도록)
+@Slf4j
+@Component
+public class RefreshTokenCleaner {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Clock clock;
+
+    public RefreshTokenCleaner(RefreshTokenRepository refreshTokenRepository, Clock clock) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.clock = clock;
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval-ms:3600000}", initialDelayString = "${auth.refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now(clock));
+        if (deleted > 0) {
+            log.info("Purged expired refresh tokens: {}", deleted);
+        }
+    }
+}
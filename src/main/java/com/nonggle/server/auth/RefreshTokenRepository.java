@@ -0,0 +1,41 @@
+package com.nonggle.server.auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash); // token_hash unique 인덱스 조회
+
+    // RefreshToken Rotation: 기존 해시가 그대로일 때만 갱신 (동시에 같은 토큰으로 갱신 시 하나만 성공)
+    @Modifying
+    @Query("""
+            update RefreshToken r
+            set r.tokenHash = :newTokenHash, r.expiresAt = :newExpiresAt
+            where r.id = :id and r.tokenHash = :oldTokenHash
+            """)
+    int rotate(
+            @Param("id") Long id,
+            @Param("oldTokenHash") String oldTokenHash,
+            @Param("newTokenHash") String newTokenHash,
+            @Param("newExpiresAt") Instant newExpiresAt
+    );
+
+    // 한 기기(로그인 세션)만 로그아웃. 다른 사용자의 토큰이면 지우지 않음
+    @Modifying
+    @Query("delete from RefreshToken r where r.familyId = :familyId and r.userId = :userId")
+    int deleteFamily(@Param("familyId") String familyId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 만료된 토큰 정리 (expires_at 인덱스 사용)
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
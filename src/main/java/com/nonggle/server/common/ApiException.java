@@ -2,9 +2,21 @@ package com.nonggle.server.common;
 
 import lombok.Getter;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @Getter
 public class ApiException extends RuntimeException {
 
+    // 기본 메시지만 쓰는 예상된 오류(토큰 만료 등)는 ErrorDefine별로 미리 만든 인스턴스를 재사용
+    private static final Map<ErrorDefine, ApiException> EXPECTED = new EnumMap<>(ErrorDefine.class);
+
+    static {
+        for (ErrorDefine error : ErrorDefine.values()) {
+            EXPECTED.put(error, new ApiException(error, false));
+        }
+    }
+
     private final ErrorDefine error;
     private String customMessage;
 
@@ -18,4 +30,18 @@ public class ApiException extends RuntimeException {
         this.error = error;
         this.customMessage = customMessage;
     }
+
+    private ApiException(ErrorDefine error, boolean writableStackTrace) {
+        super(error.getMessage(), null, false, writableStackTrace);
+        this.error = error;
+    }
+
+    /**
+     * 스택 트레이스 없는 예외 (클라이언트 입력/토큰 문제처럼 자주 발생하고 원인 추적이 필요 없는 4xx용)
+     * - 생성 시 스택을 채우지 않고, 기본 메시지는 공유 인스턴스를 반환하므로 할당도 없음
+     * - 공유 인스턴스이므로 initCause/addSuppressed로 상태를 바꾸지 않는다.
+     */
+    public static ApiException expected(ErrorDefine error) {
+        return EXPECTED.get(error);
+    }
 }
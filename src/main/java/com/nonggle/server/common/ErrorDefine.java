@@ -21,8 +21,14 @@ public enum ErrorDefine {
     // 400 BAD REQUEST
     BAD_REQUEST(HttpStatus.BAD_REQUEST, 40001, "잘못된 요청입니다."),
 
+    // 409 CONFLICT
+    CONFLICT(HttpStatus.CONFLICT, 40901, "다른 곳에서 먼저 수정되었습니다. 다시 조회한 뒤 시도해주세요."),
+
     // 500 INTERNAL SERVER ERROR
-    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 50001, "서버 내부 오류가 발생했습니다.");
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 50001, "서버 내부 오류가 발생했습니다."),
+
+    // 503 SERVICE UNAVAILABLE
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 50301, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
 
     private final HttpStatus httpStatus;
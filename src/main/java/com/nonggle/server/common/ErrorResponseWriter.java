@@ -0,0 +1,49 @@
+package com.nonggle.server.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 필터/Security 단계의 오류 응답(401/403 등) 작성
+ * - ErrorDefine별 기본 응답 본문(ApiResponse.fail)을 시작 시 한 번만 직렬화해 두고 byte[]를 그대로 쓴다.
+ * - 컨트롤러에서 발생한 예외는 GlobalExceptionHandler가 처리한다. api.errors 카운터는 양쪽에서 같은 태그로 집계
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private final Map<ErrorDefine, byte[]> bodies = new EnumMap<>(ErrorDefine.class);
+    private final Map<ErrorDefine, Counter> errorCounters = new EnumMap<>(ErrorDefine.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        try {
+            for (ErrorDefine error : ErrorDefine.values()) {
+                bodies.put(error, objectMapper.writeValueAsBytes(ApiResponse.fail(error.getCode(), error.getMessage())));
+                // 401 경로에서 매번 registry 조회하지 않도록 미리 등록
+                errorCounters.put(error, meterRegistry.counter("api.errors",
+                        "error", error.name(),
+                        "status", String.valueOf(error.getHttpStatus().value())));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize error responses", e);
+        }
+    }
+
+    public void write(HttpServletResponse response, ErrorDefine error) throws IOException {
+        byte[] body = bodies.get(error);
+        errorCounters.get(error).increment();
+        response.setStatus(error.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -2,7 +2,9 @@ package com.nonggle.server.common;
 
 
 import com.nonggle.server.auth.KakaoClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -11,15 +13,27 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(KakaoClient.KakaoAuthException.class)
     public ResponseEntity<ApiResponse<?>> handleKakaoAuthException(KakaoClient.KakaoAuthException e) {
-        log.error("KakaoAuthException: Error - {}, Message - {}", e.getError(), e.getMessage(), e);
-
         ErrorDefine error = switch (e.getError()) {
             case UNAUTHORIZED, FORBIDDEN -> ErrorDefine.TOKEN_INVALID;
             default -> ErrorDefine.INTERNAL_ERROR;
         };
 
+        if (error.getHttpStatus().is5xxServerError()) {
+            log.error("KakaoAuthException: Error - {}, Message - {}", e.getError(), e.getMessage(), e);
+        } else {
+            // 사용자 토큰 문제는 예상된 실패 → 스택 트레이스 없이 한 줄
+            log.info("KakaoAuthException: Error - {}, Message - {}", e.getError(), e.getMessage());
+        }
+
+        countError(error);
         return ResponseEntity
                 .status(error.getHttpStatus())
                 .body(ApiResponse.fail(error.getCode(), "카카오 인증에 실패했습니다. 토큰을 확인해주세요."));
@@ -31,21 +45,47 @@ public class GlobalExceptionHandler {
         ErrorDefine errorDefine = e.getError();
         String message = e.getCustomMessage() == null ? errorDefine.getMessage() : e.getCustomMessage();
 
-        log.error("ApiException: HTTP Status - {}, Code - {}, Message - {}",
-                errorDefine.getHttpStatus(), errorDefine.getCode(), message, e);
+        if (errorDefine.getHttpStatus().is5xxServerError()) {
+            log.error("ApiException: HTTP Status - {}, Code - {}, Message - {}",
+                    errorDefine.getHttpStatus(), errorDefine.getCode(), message, e);
+        } else {
+            // 4xx(토큰 만료, 권한 없음, 입력 오류 등)는 예상된 흐름 → 스택 트레이스 없이 기록
+            log.info("ApiException: HTTP Status - {}, Code - {}, Message - {}",
+                    errorDefine.getHttpStatus(), errorDefine.getCode(), message);
+        }
 
+        countError(errorDefine);
         return ResponseEntity
                 .status(errorDefine.getHttpStatus())
                 .body(ApiResponse.fail(errorDefine.getCode(), message));
     }
 
+    // 동시 수정 (@Version 불일치)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<?>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        log.warn("OptimisticLockingFailure: {}", e.getMessage());
+        ErrorDefine errorDefine = ErrorDefine.CONFLICT;
+        countError(errorDefine);
+        return ResponseEntity
+                .status(errorDefine.getHttpStatus())
+                .body(ApiResponse.fail(errorDefine.getCode(), errorDefine.getMessage()));
+    }
+
     // 예상치 못한 모든 예외 처리 (500 Internal Server Error)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<?>> handleGeneralException(Exception e) {
         log.error("Unhandled exception: ", e); // 에러 로그에 스택 트레이스 포함
         ErrorDefine errorDefine = ErrorDefine.INTERNAL_ERROR;
+        countError(errorDefine);
         return ResponseEntity
                 .status(errorDefine.getHttpStatus())
                 .body(ApiResponse.fail(errorDefine.getCode(), "서버 내부 오류가 발생했습니다. 로그를 확인해주세요. (" + e.getMessage() + ")"));
     }
+
+    // ErrorDefine별 응답 횟수 (api.errors{error, status})
+    private void countError(ErrorDefine errorDefine) {
+        meterRegistry.counter("api.errors",
+                "error", errorDefine.name(),
+                "status", String.valueOf(errorDefine.getHttpStatus().value())).increment();
+    }
 }
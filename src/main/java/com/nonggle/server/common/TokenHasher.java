@@ -0,0 +1,23 @@
+package com.nonggle.server.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 토큰 원문 대신 저장/캐시 키로 쓰기 위한 SHA-256 다이제스트 유틸
+public final class TokenHasher {
+
+    private TokenHasher() {
+    }
+
+    public static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 제공해야 하므로 도달하지 않는다.
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
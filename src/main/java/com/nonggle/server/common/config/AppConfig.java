@@ -1,15 +1,181 @@
 package com.nonggle.server.common.config;
 
+import com.nonggle.server.auth.KakaoClient.KakaoAuthError;
+import com.nonggle.server.auth.KakaoClient.KakaoAuthException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.slf4j.MDC;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
     @Bean
     public Clock clock() {
         return Clock.systemDefaultZone();
     }
+
+    // 외부 API(카카오) 호출용 공용 HTTP 클라이언트
+    @Bean
+    public OkHttpClient okHttpClient(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${http-client.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${http-client.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${http-client.call-timeout-ms:5000}") long callTimeoutMs,
+            @Value("${http-client.max-idle-connections:20}") int maxIdleConnections,
+            @Value("${http-client.max-requests-per-host:64}") int maxRequestsPerHost
+    ) {
+        // 가상 스레드 모드에서는 콜백(응답 파싱)도 가상 스레드에서 실행
+        Dispatcher dispatcher = virtualThreads
+                ? new Dispatcher(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("okhttp-", 0).factory()))
+                : new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(64, maxRequestsPerHost));
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost); // 기본값 5는 로그인 몰림 시 병목
+
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxIdleConnections, 5, TimeUnit.MINUTES))
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .callTimeout(callTimeoutMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    // 카카오 장애(5xx/IO/지연)가 일정 비율을 넘으면 호출을 즉시 차단하고, 주기적으로 half-open 상태에서 복구를 확인
+    @Bean
+    public CircuitBreaker kakaoCircuitBreaker(
+            @Value("${kakao.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${kakao.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${kakao.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${kakao.circuit-breaker.wait-duration-in-open-state-ms:10000}") long waitDurationInOpenStateMs,
+            @Value("${kakao.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+            @Value("${kakao.circuit-breaker.slow-call-duration-threshold-ms:2000}") long slowCallDurationThresholdMs
+    ) {
+        // 사용자 토큰 문제(401/403/400)는 카카오 장애가 아니므로 실패로 집계하지 않음
+        Set<KakaoAuthError> kakaoFailures = EnumSet.of(
+                KakaoAuthError.KAKAO_SERVER_ERROR,
+                KakaoAuthError.IO_ERROR,
+                KakaoAuthError.INVALID_RESPONSE,
+                KakaoAuthError.UNKNOWN
+        );
+
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationThresholdMs))
+                .slowCallRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenStateMs))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(e -> e instanceof KakaoAuthException kakaoAuthException
+                        && kakaoFailures.contains(kakaoAuthException.getError()))
+                .build();
+        return CircuitBreaker.of("kakao", config);
+    }
+
+    // 카카오 동시 호출 수 제한 (대기 없이 즉시 거절)
+    @Bean
+    public Bulkhead kakaoBulkhead(
+            @Value("${kakao.bulkhead.max-concurrent-calls:32}") int maxConcurrentCalls
+    ) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        return Bulkhead.of("kakao", config);
+    }
+
+    // 카카오 응답 이후 사용자 조회/토큰 발급(DB 작업)을 처리하는 executor
+    @Bean
+    public AsyncTaskExecutor authTaskExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${auth.executor.pool-size:16}") int poolSize,
+            @Value("${auth.executor.queue-capacity:200}") int queueCapacity
+    ) {
+        if (virtualThreads) {
+            // 작업마다 가상 스레드 생성. 실제 동시성은 Hikari 커넥션 풀 크기가 제한한다.
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("auth-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(AppConfig::withCallerMdc);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("auth-");
+        executor.setTaskDecorator(AppConfig::withCallerMdc);
+        return executor;
+    }
+
+    // 업로드 이미지 축소본 생성용 executor (CPU/메모리를 많이 쓰므로 가상 스레드 모드에서도 작은 고정 풀 사용)
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor(
+            @Value("${file.image-variant.pool-size:2}") int poolSize,
+            @Value("${file.image-variant.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity); // 가득 차면 거절 → 축소본 없이 원본만 제공
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setTaskDecorator(AppConfig::withCallerMdc);
+        return executor;
+    }
+
+    // 이력서 PDF 렌더링용 executor (CPU 작업이므로 작은 고정 풀, 큐가 차면 503)
+    @Bean
+    public ThreadPoolTaskExecutor pdfRenderExecutor(
+            @Value("${resume.pdf.render-pool-size:2}") int poolSize,
+            @Value("${resume.pdf.render-queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("pdf-render-");
+        executor.setTaskDecorator(AppConfig::withCallerMdc);
+        return executor;
+    }
+
+    // 작업을 제출한 요청 스레드의 MDC(requestId, userId)를 작업 스레드에서도 사용 → 비동기 작업 로그도 요청과 연결
+    private static Runnable withCallerMdc(Runnable task) {
+        Map<String, String> callerContext = MDC.getCopyOfContextMap();
+        return () -> {
+            if (callerContext != null) {
+                MDC.setContextMap(callerContext);
+            }
+            try {
+                task.run();
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
 }
@@ -0,0 +1,57 @@
+package com.nonggle.server.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nonggle.server.resume.ResumeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+
+// 이력서 상세 캐시 저장소 선택 (resume.cache.type = local | redis)
+@Configuration
+public class CacheConfig {
+
+    public static final String RESUME_CACHE = "resumes";
+
+    // 기본: 서버 프로세스 내 캐시 (단일 서버 배포)
+    @Bean
+    @ConditionalOnProperty(name = "resume.cache.type", havingValue = "local", matchIfMissing = true)
+    public Cache resumeCache(
+            @Value("${resume.cache.maximum-size:10000}") long maximumSize,
+            @Value("${resume.cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        return new CaffeineCache(RESUME_CACHE, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(), false);
+    }
+
+    // 여러 서버 배포: Redis(또는 Valkey 등 호환 서버)를 공유 캐시로 사용. 접속 정보는 spring.data.redis.*
+    @Bean
+    @ConditionalOnProperty(name = "resume.cache.type", havingValue = "redis")
+    public Cache redisResumeCache(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            @Value("${resume.cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofSeconds(ttlSeconds))
+                .disableCachingNullValues()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, ResumeResponse.class)));
+        return RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(configuration)
+                .build()
+                .getCache(RESUME_CACHE);
+    }
+}
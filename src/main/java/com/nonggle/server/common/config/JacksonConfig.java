@@ -0,0 +1,37 @@
+package com.nonggle.server.common.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+// Module 빈은 Spring Boot가 공용 ObjectMapper(MVC 응답, 일괄 등록/내보내기)에 자동 등록
+@Configuration
+public class JacksonConfig {
+
+    // getter/생성자를 리플렉션 대신 LambdaMetafactory로 만든 함수로 호출 (ApiResponse, ResumeResponse 등 모든 DTO)
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /*
+     * Accept 헤더에 따라 JSON 대신 바이너리 인코딩으로 응답 (요청 본문도 같은 형식으로 받을 수 있음)
+     * - Boot의 Jackson2ObjectMapperBuilder를 사용 → JSON과 같은 모듈/설정, 같은 ApiResponse 구조
+     * - Accept가 없거나 application/json이면 기존과 같이 JSON
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,21 @@
+package com.nonggle.server.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // insert/update를 JDBC batch로 묶어서 전송 (spring.jpa.properties.hibernate.* 로 지정한 값이 있으면 그 값 사용)
+    // Postgres는 datasource URL에 reWriteBatchedInserts=true를 주면 batch가 multi-row insert로 바뀐다.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, 50);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.nonggle.server.common.config;
+
+import com.nonggle.server.resume.ResumeCache;
+import com.nonggle.server.resume.ResumePdfRenderService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 직접 구현한 캐시의 hit/miss를 Caffeine 캐시 메트릭과 같은 이름(cache.gets{cache, result})으로 노출
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder resumeCacheMetrics(ResumeCache resumeCache, ResumePdfRenderService resumePdfRenderService) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", resumeCache, ResumeCache::getHitCount)
+                    .tags("cache", "resumes", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", resumeCache, ResumeCache::getMissCount)
+                    .tags("cache", "resumes", "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", resumePdfRenderService, ResumePdfRenderService::getCacheHitCount)
+                    .tags("cache", "resume-pdf", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", resumePdfRenderService, ResumePdfRenderService::getCacheMissCount)
+                    .tags("cache", "resume-pdf", "result", "miss")
+                    .register(registry);
+        };
+    }
+}
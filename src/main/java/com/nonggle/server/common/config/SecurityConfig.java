@@ -1,14 +1,15 @@
 package com.nonggle.server.common.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import com.nonggle.server.auth.JwtAuthenticationFilter;
-import com.nonggle.server.common.ApiResponse;
+import com.nonggle.server.auth.PublicPaths;
 import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.common.ErrorResponseWriter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 
-import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -21,11 +22,26 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, ObjectMapper objectMapper) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, ErrorResponseWriter errorResponseWriter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
-        this.objectMapper = objectMapper;
+        this.errorResponseWriter = errorResponseWriter;
+    }
+
+    // actuator(관리 포트): health/prometheus만 인증 없이 허용, 나머지 endpoint는 차단
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .anyRequest().denyAll()
+                );
+        return http.build();
     }
 
     @Bean
@@ -34,34 +50,19 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable()) // CSRF 비활성화 (REST API의 경우)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 사용 안함
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/auth/kakao",
-                                "/auth/token/refresh",
-                                "/hello",
-                                "/health",
-                                "/h2-console/**",
-                                "/uploads/**"
-                        ).permitAll() // 특정 경로는 인증 없이 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 비동기 응답(CompletableFuture) 재디스패치는 최초 요청에서 이미 인가됨
+                        .requestMatchers(PublicPaths.PATTERNS).permitAll() // 특정 경로는 인증 없이 허용
                         .anyRequest().authenticated() // 나머지 요청은 인증 필요
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // JwtAuthenticationFilter 추가
                 .logout(logout -> logout.disable()) // 기본 로그아웃 필터 비활성화 (AuthController 로직 사용)
                 .exceptionHandling(exceptionHandling -> exceptionHandling
                         .authenticationEntryPoint((request, response, authException) -> { // 인증 실패 (401)
-                            ErrorDefine error = ErrorDefine.UNAUTHORIZED;
-                            response.setStatus(error.getHttpStatus().value());
-                            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-                            response.setCharacterEncoding("UTF-8");
                             response.setHeader("WWW-Authenticate", "Bearer realm=\"nonggle\"");
-                            objectMapper.writeValue(response.getWriter(), ApiResponse.fail(error.getCode(), error.getMessage()));
-                        })
-                        .accessDeniedHandler((request, response, accessDeniedException) -> { // 인가 실패 (403)
-                            ErrorDefine error = ErrorDefine.FORBIDDEN;
-                            response.setStatus(error.getHttpStatus().value());
-                            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-                            response.setCharacterEncoding("UTF-8");
-                            objectMapper.writeValue(response.getWriter(), ApiResponse.fail(error.getCode(), error.getMessage()));
+                            errorResponseWriter.write(response, ErrorDefine.UNAUTHORIZED);
                         })
+                        .accessDeniedHandler((request, response, accessDeniedException) -> // 인가 실패 (403)
+                                errorResponseWriter.write(response, ErrorDefine.FORBIDDEN))
                 );
 
         return http.build();
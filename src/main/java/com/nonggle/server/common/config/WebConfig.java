@@ -2,8 +2,13 @@ package com.nonggle.server.common.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.time.Duration;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -11,9 +16,24 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    // 비동기 응답(PDF 렌더링, NDJSON 내보내기) 제한 시간. 기본값(컨테이너 30초)은 큰 내보내기에 부족
+    @Value("${web.async.request-timeout-ms:300000}")
+    private long asyncRequestTimeoutMs;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeoutMs);
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 업로드 파일명은 내용 해시(또는 UUID)라 같은 URL의 내용이 바뀌지 않음 → 1년 immutable 캐시
+        // Range 요청(206)은 ResourceHttpRequestHandler가 기본 지원
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadDir + "/");
+                .addResourceLocations("file:" + uploadDir + "/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .setEtagGenerator(resource -> resource.getFilename()) // 파일명 = 내용 해시이므로 strong ETag로 사용 (내용을 다시 읽지 않음)
+                .resourceChain(false) // 조회 결과는 캐시하지 않음 (경로 수 제한 없는 캐시가 되고, GC로 지운 파일을 계속 찾음)
+                .addResolver(new EncodedResourceResolver()); // {파일}.br / .gz 가 있으면 Accept-Encoding에 맞춰 제공
     }
 }
@@ -0,0 +1,85 @@
+package com.nonggle.server.file;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+// 내용(SHA-256) 기준으로 한 번만 저장되는 업로드 파일과 참조 수
+@Entity
+@Table(
+        name = "file_blobs",
+        indexes = @Index(name = "idx_file_blobs_ref_count_released_at", columnList = "refCount, releasedAt")
+)
+public class FileBlob implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private String relativePath; // 업로드 디렉토리 기준 경로 (예: ab/cd/abcd....jpg)
+
+    private long size;
+
+    private int refCount;
+
+    private Instant releasedAt; // 참조 수가 마지막으로 줄어든 시각 (GC 유예 기간 판단용)
+
+    private boolean variantsReady; // 축소본(ImageVariants) 생성 완료 여부 (완료 전에는 축소본 URL을 내려주지 않음)
+
+    @Transient
+    private boolean isNew; // 새 행은 merge(select 후 덮어쓰기) 대신 바로 insert → 동시 등록은 PK 충돌로 드러남
+
+    protected FileBlob() {}
+
+    // 참조 수 0으로 등록하고, 참조 수는 업로드 트랜잭션에서 올린다
+    public FileBlob(String hash, String relativePath, long size, Instant registeredAt) {
+        this.hash = hash;
+        this.relativePath = relativePath;
+        this.size = size;
+        this.refCount = 0;
+        this.releasedAt = registeredAt;
+        this.isNew = true;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return hash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getRelativePath() {
+        return relativePath;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public Instant getReleasedAt() {
+        return releasedAt;
+    }
+
+    public boolean isVariantsReady() {
+        return variantsReady;
+    }
+}
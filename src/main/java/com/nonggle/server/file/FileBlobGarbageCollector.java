@@ -0,0 +1,49 @@
+package com.nonggle.server.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+// 참조 수가 0이 된 뒤 유예 기간이 지난 업로드 파일 삭제
+@Component
+public class FileBlobGarbageCollector {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final FileBlobRepository fileBlobRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration gracePeriod;
+
+    public FileBlobGarbageCollector(
+            FileBlobRepository fileBlobRepository,
+            FileStorageService fileStorageService,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${file.gc.grace-period-ms:86400000}") long gracePeriodMs // 기본 1일
+    ) {
+        this.fileBlobRepository = fileBlobRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.gracePeriod = Duration.ofMillis(gracePeriodMs);
+    }
+
+    @Scheduled(fixedDelayString = "${file.gc.interval-ms:3600000}", initialDelayString = "${file.gc.interval-ms:3600000}")
+    public void collect() {
+        Instant cutoff = Instant.now(clock).minus(gracePeriod);
+        List<String> hashes = fileBlobRepository.findUnreferencedHashes(cutoff, Limit.of(BATCH_SIZE));
+        for (String hash : hashes) {
+            transactionTemplate.executeWithoutResult(status -> fileStorageService.deleteIfUnreferenced(hash));
+        }
+    }
+}
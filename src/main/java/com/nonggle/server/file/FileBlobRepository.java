@@ -0,0 +1,39 @@
+package com.nonggle.server.file;
+
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    @Modifying
+    @Query("update FileBlob b set b.refCount = b.refCount + 1, b.releasedAt = null where b.hash = :hash")
+    int incrementRefCount(@Param("hash") String hash);
+
+    @Modifying
+    @Query("update FileBlob b set b.refCount = b.refCount - 1, b.releasedAt = :now where b.hash = :hash and b.refCount > 0")
+    int decrementRefCount(@Param("hash") String hash, @Param("now") Instant now);
+
+    // 축소본 생성 executor에서 호출 (업로드 트랜잭션 밖)
+    @Transactional
+    @Modifying
+    @Query("update FileBlob b set b.variantsReady = true where b.hash = :hash and b.variantsReady = false")
+    int markVariantsReady(@Param("hash") String hash);
+
+    // 참조가 없어진 지 유예 기간이 지난 blob (GC 대상)
+    @Query("select b.hash from FileBlob b where b.refCount = 0 and b.releasedAt < :cutoff")
+    List<String> findUnreferencedHashes(@Param("cutoff") Instant cutoff, Limit limit);
+
+    // GC 중 같은 blob을 새로 참조하려는 업로드는 이 행 잠금이 풀릴 때까지 대기
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<FileBlob> findByHashAndRefCount(String hash, int refCount);
+}
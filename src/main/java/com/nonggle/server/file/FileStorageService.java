@@ -2,53 +2,266 @@ package com.nonggle.server.file;
 
 import com.nonggle.server.common.ApiException;
 import com.nonggle.server.common.ErrorDefine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Objects;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * 업로드 파일을 내용(SHA-256) 기준으로 저장한다.
+ * - 경로: {upload-dir}/ab/cd/{sha256}.{ext} (해시 앞 4자리로 디렉토리 분산)
+ * - 같은 내용의 파일은 한 번만 저장하고 file_blobs.refCount로 참조 수를 관리한다.
+ * - 참조가 0이 된 파일은 FileBlobGarbageCollector가 유예 기간 후 삭제한다.
+ * - 저장 후 목록 화면용 축소본(ImageVariants)을 비동기로 생성한다.
+ * - 새 blob 행은 별도 트랜잭션에서 참조 수 0으로 먼저 만들고, 업로드 트랜잭션에서 참조 수를 올린다.
+ *   동시에 같은 내용을 처음 올려도 PK 충돌 없이 참조 수가 합산되고, 업로드가 롤백되면 파일과 행을 바로 지운다.
+ */
+@Slf4j
 @Service
 public class FileStorageService {
 
+    // ISO BMFF(ftyp) 중 HEIF 이미지 major brand만 허용 (mp4/mov 등 같은 컨테이너의 영상은 거절)
+    private static final Set<String> HEIF_BRANDS = Set.of("heic", "heix", "hevc", "hevx", "mif1", "msf1");
+
     private final Path fileStorageLocation;
+    private final Path tempLocation;
     private final String baseUrl;
+    private final long maxImageSize;
+    private final FileBlobRepository fileBlobRepository;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final TransactionTemplate requiresNew;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary storedBytes;
 
     public FileStorageService(
             @Value("${app.base-url}") String baseUrl,
-            @Value("${file.upload-dir}") String uploadDir
+            @Value("${file.upload-dir}") String uploadDir,
+            @Value("${file.max-image-size:20971520}") long maxImageSize, // 기본 20MB
+            FileBlobRepository fileBlobRepository,
+            ImageVariantGenerator imageVariantGenerator,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            MeterRegistry meterRegistry
     ) {
         this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.tempLocation = this.fileStorageLocation.resolve(".tmp"); // 같은 파일시스템이어야 원자적 이동 가능
+        this.maxImageSize = maxImageSize;
+        this.fileBlobRepository = fileBlobRepository;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.storedBytes = DistributionSummary.builder("file.store.size")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
         try {
-            Files.createDirectories(this.fileStorageLocation);
+            Files.createDirectories(this.tempLocation);
         } catch (Exception ex) {
             throw new ApiException(ErrorDefine.INTERNAL_ERROR, "파일을 저장할 디렉토리를 생성할 수 없습니다.");
         }
     }
 
-    public String storeFile(MultipartFile file) {
-        // 파일명에 부적절한 문자가 있는지 확인
-        String originalFileName = Objects.requireNonNull(file.getOriginalFilename());
-        String fileName = UUID.randomUUID().toString() + "_" + originalFileName.replaceAll("[^a-zA-Z0-9._-]", "");
+    @Transactional
+    public StoredFile storeFile(MultipartFile file) {
+        // 선언된 크기로 먼저 거르고, 실제 크기는 스트리밍 중에 다시 검사
+        if (file.getSize() > maxImageSize) {
+            throw new ApiException(ErrorDefine.BAD_REQUEST, "파일 크기가 제한(" + maxImageSize / (1024 * 1024) + "MB)을 초과했습니다.");
+        }
+
+        Path tempFile = tempLocation.resolve(UUID.randomUUID() + ".upload");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try (InputStream in = file.getInputStream()) {
+            StreamingFileWriter.Result result = StreamingFileWriter.write(in, tempFile, maxImageSize,
+                    FileStorageService::detectImageExtension, "지원하지 않는 이미지 형식입니다. (jpg, png, gif, webp, heic)");
+
+            String relativePath = shardedPath(result.contentHash(), result.extension());
+            Path targetLocation = fileStorageLocation.resolve(relativePath);
+
+            boolean referenced = fileBlobRepository.incrementRefCount(result.contentHash()) > 0;
+            if (referenced && Files.exists(targetLocation)) {
+                // 이미 저장된 내용 → 새로 쓰지 않고 참조 수만 증가
+                Files.deleteIfExists(tempFile);
+                outcome = "dedup";
+            } else {
+                Files.createDirectories(targetLocation.getParent());
+                Files.move(tempFile, targetLocation, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                if (!referenced) {
+                    registerBlob(result.contentHash(), relativePath, result.size());
+                    fileBlobRepository.incrementRefCount(result.contentHash());
+                    deleteOnRollback(result.contentHash());
+                }
+                outcome = "stored";
+            }
+            storedBytes.record(result.size());
+
+            // 축소본이 이미 있으면 생성기에서 바로 건너뜀
+            imageVariantGenerator.generateAsync(targetLocation, result.contentHash(), result.extension());
+            return new StoredFile(result.contentHash(), toUrl(relativePath));
+        } catch (IOException ex) {
+            throw new ApiException(ErrorDefine.INTERNAL_ERROR, "파일을 저장할 수 없습니다. " + file.getOriginalFilename());
+        } finally {
+            deleteQuietly(tempFile);
+            // outcome: stored(새로 저장) / dedup(같은 내용 재사용) / error(형식/크기 오류 포함)
+            sample.stop(Timer.builder("file.store")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    // 참조 해제 (실제 파일 삭제는 GC가 유예 기간 후 수행)
+    @Transactional
+    public void release(String hash) {
+        if (hash == null) {
+            return;
+        }
+        fileBlobRepository.decrementRefCount(hash, Instant.now(clock));
+    }
+
+    // 참조가 없는 blob이면 파일(원본 + 축소본)과 행 삭제. 트랜잭션 안에서 호출해야 함
+    void deleteIfUnreferenced(String hash) {
+        // 행 잠금 후 다시 확인: 그 사이 새로 참조됐다면 삭제하지 않음
+        fileBlobRepository.findByHashAndRefCount(hash, 0).ifPresent(blob -> {
+            try {
+                Path original = resolveStoredPath(blob.getRelativePath());
+                for (int size : ImageVariants.SIZES) {
+                    Files.deleteIfExists(original.resolveSibling(ImageVariants.fileName(hash, size)));
+                }
+                Files.deleteIfExists(original);
+            } catch (IOException e) {
+                log.warn("Failed to delete unreferenced file blob: {}", blob.getRelativePath(), e);
+                return;
+            }
+            fileBlobRepository.delete(blob);
+        });
+    }
+
+    // 업로드 디렉토리 기준 상대 경로 → 실제 파일 경로
+    public Path resolveStoredPath(String relativePath) {
+        Path path = fileStorageLocation.resolve(relativePath).normalize();
+        if (!path.startsWith(fileStorageLocation)) {
+            throw new ApiException(ErrorDefine.BAD_REQUEST, "파일 경로가 올바르지 않습니다.");
+        }
+        return path;
+    }
+
+    // 업로드 URL → 저장된 파일 경로 (이 서버의 업로드 URL이 아니거나 파일이 없으면 empty)
+    public Optional<Path> findStoredFile(String url) {
+        String prefix = baseUrl + "/uploads/";
+        if (url == null || !url.startsWith(prefix)) {
+            return Optional.empty();
+        }
+        try {
+            Path path = resolveStoredPath(url.substring(prefix.length()));
+            return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+        } catch (ApiException e) {
+            return Optional.empty();
+        }
+    }
 
+    // 참조 수 0인 행을 별도 트랜잭션으로 먼저 커밋 (이미 있으면 그대로 사용)
+    // releasedAt을 지금으로 두므로 업로드 트랜잭션이 참조 수를 올리기 전에 GC 대상이 되지 않음
+    private void registerBlob(String hash, String relativePath, long size) {
         try {
-            // 파일명에 ".."와 같은 경로 시퀀스가 포함되어 있는지 확인
-            if (fileName.contains("..")) {
-                throw new ApiException(ErrorDefine.BAD_REQUEST, "파일명에 부적절한 경로 시퀀스가 포함되어 있습니다.");
+            requiresNew.executeWithoutResult(status ->
+                    fileBlobRepository.saveAndFlush(new FileBlob(hash, relativePath, size, Instant.now(clock))));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 업로드가 같은 내용을 동시에 먼저 등록함
+            log.debug("File blob already registered: {}", hash);
+        }
+    }
+
+    // 업로드 트랜잭션이 롤백되면 아무도 참조하지 않는 새 파일이 남지 않도록 정리
+    private void deleteOnRollback(String hash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    requiresNew.executeWithoutResult(tx -> deleteIfUnreferenced(hash));
+                } catch (RuntimeException e) {
+                    // 정리하지 못한 blob은 참조 수 0이므로 GC가 유예 기간 후 삭제
+                    log.warn("Failed to clean up file blob after rollback: {}", hash, e);
+                }
             }
+        });
+    }
 
-            Path targetLocation = this.fileStorageLocation.resolve(fileName);
-            Files.copy(file.getInputStream(), targetLocation);
+    private String shardedPath(String hash, String extension) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "." + extension;
+    }
 
-            return baseUrl + "/uploads/" + fileName;
-        } catch (IOException ex) {
-            throw new ApiException(ErrorDefine.INTERNAL_ERROR, "파일을 저장할 수 없습니다. " + originalFileName);
+    private String toUrl(String relativePath) {
+        return baseUrl + "/uploads/" + relativePath;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 남은 임시 파일은 다음 업로드에 영향 없음
+        }
+    }
+
+    // 파일 앞부분 매직 넘버로 이미지 형식 확인 (확장자/Content-Type은 클라이언트가 임의로 보낼 수 있음)
+    private static String detectImageExtension(byte[] header) {
+        if (header.length < 12) {
+            return null;
+        }
+        if ((header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (Arrays.equals(header, 0, 8, new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}, 0, 8)) {
+            return "png";
         }
+        if (startsWith(header, 0, "GIF8")) {
+            return "gif";
+        }
+        if (startsWith(header, 0, "RIFF") && startsWith(header, 8, "WEBP")) {
+            return "webp";
+        }
+        if (startsWith(header, 4, "ftyp") && HEIF_BRANDS.contains(new String(header, 8, 4, StandardCharsets.US_ASCII))) {
+            return "heic"; // heic/heif (안드로이드 카메라 기본 포맷 포함)
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, String ascii) {
+        byte[] expected = ascii.getBytes(StandardCharsets.US_ASCII);
+        return Arrays.equals(bytes, offset, offset + expected.length, expected, 0, expected.length);
     }
 }
@@ -0,0 +1,189 @@
+package com.nonggle.server.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 업로드된 원본 이미지로 목록/상세 화면용 JPEG 축소본(ImageVariants.SIZES)을 만든다.
+ * - 업로드 응답을 기다리게 하지 않도록 전용 executor(imageVariantExecutor)에서 실행
+ * - 실패/큐 초과 시 축소본 없이 넘어간다 (클라이언트는 원본 URL로 대체)
+ * - 세 크기를 모두 만든 뒤에만 file_blobs.variantsReady를 켜서 응답에 축소본 URL이 노출되게 한다
+ * - 켜진 뒤 ImageVariantsReadyEvent를 발행해, 그 전에 캐시된 이력서 응답(빈 축소본 목록)을 제거하게 한다
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L; // 디코딩 메모리 폭주 방지 (약 50MP)
+
+    private final Executor executor;
+    private final FileBlobRepository fileBlobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImageVariantGenerator(
+            @Qualifier("imageVariantExecutor") Executor executor,
+            FileBlobRepository fileBlobRepository,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.executor = executor;
+        this.fileBlobRepository = fileBlobRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void generateAsync(Path original, String hash, String extension) {
+        if (!ImageVariants.DECODABLE_EXTENSIONS.contains(extension)) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(original, hash));
+        } catch (RejectedExecutionException e) {
+            log.warn("Image variant queue is full, skipping variants for {}", hash);
+        }
+    }
+
+    void generate(Path original, String hash) {
+        try {
+            if (allVariantsExist(original, hash)) {
+                markVariantsReady(hash); // 같은 내용이 다시 업로드된 경우
+                return;
+            }
+            BufferedImage image = read(original, ImageVariants.SIZES[ImageVariants.SIZES.length - 1]);
+            if (image == null) {
+                log.warn("Unsupported or oversized image, skipping variants for {}", hash);
+                return;
+            }
+            // 큰 축소본부터 만들고, 다음 크기는 직전 결과에서 줄여 연산량을 줄임
+            for (int i = ImageVariants.SIZES.length - 1; i >= 0; i--) {
+                int size = ImageVariants.SIZES[i];
+                image = resizeToFit(image, size);
+                Path target = original.resolveSibling(ImageVariants.fileName(hash, size));
+                if (!Files.exists(target)) {
+                    writeJpeg(image, target);
+                }
+            }
+            markVariantsReady(hash);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate image variants for {}", hash, e);
+        }
+    }
+
+    // 이번에 처음 켜진 경우에만 발행 (이미 켜져 있었다면 캐시된 응답에도 축소본 URL이 들어 있음)
+    private void markVariantsReady(String hash) {
+        if (fileBlobRepository.markVariantsReady(hash) > 0) {
+            eventPublisher.publishEvent(new ImageVariantsReadyEvent(hash));
+        }
+    }
+
+    private boolean allVariantsExist(Path original, String hash) {
+        for (int size : ImageVariants.SIZES) {
+            if (!Files.exists(original.resolveSibling(ImageVariants.fileName(hash, size)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 가장 큰 축소본보다 작아지지 않는 범위에서 subsampling 하며 디코딩 (20MB 원본도 전체 해상도로 올리지 않음)
+    private BufferedImage read(Path file, int largestSize) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    return null;
+                }
+                int step = Math.max(1, Math.max(width, height) / largestSize);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변을 maxSize 이하로 축소 (확대는 하지 않음). 2배 이상 줄일 때는 절반씩 나눠 줄여 계단 현상 방지
+    private BufferedImage resizeToFit(BufferedImage source, int maxSize) {
+        int longest = Math.max(source.getWidth(), source.getHeight());
+        double scale = Math.min(1.0, (double) maxSize / longest);
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        do {
+            int width = Math.max(targetWidth, current.getWidth() / 2);
+            int height = Math.max(targetHeight, current.getHeight() / 2);
+            current = draw(current, width, height);
+        } while (current.getWidth() > targetWidth || current.getHeight() > targetHeight);
+        return current;
+    }
+
+    // JPEG는 투명도를 지원하지 않으므로 흰 배경의 RGB 이미지로 그림
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 이동 (정적 리소스 핸들러가 쓰다 만 파일을 내려주지 않도록)
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        Path tempFile = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(tempFile.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
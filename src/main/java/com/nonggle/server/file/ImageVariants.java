@@ -0,0 +1,50 @@
+package com.nonggle.server.file;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 프로필 이미지 축소본 규칙
+ * - 원본과 같은 디렉토리에 {sha256}_{size}.jpg 로 저장 (size = 긴 변 기준 최대 픽셀)
+ * - 경로가 해시로 정해지므로 DB에 따로 저장하지 않고 원본 URL에서 계산한다.
+ * - 생성이 끝나기 전(또는 실패한 경우)에는 URL을 내려주지 않는다. 생성 여부는 file_blobs.variantsReady
+ *   (캐시된 이력서 응답에는 다음 수정이나 캐시 만료 때 반영)
+ */
+public final class ImageVariants {
+
+    public static final int[] SIZES = {64, 256, 1024};
+
+    // JDK 기본 ImageIO로 디코딩 가능한 형식 (webp/heic는 축소본 없이 원본만 제공)
+    static final Set<String> DECODABLE_EXTENSIONS = Set.of("jpg", "png", "gif");
+
+    private ImageVariants() {
+    }
+
+    static String fileName(String hash, int size) {
+        return hash + "_" + size + ".jpg";
+    }
+
+    /**
+     * @param variantsReady 축소본 생성 완료 여부 (FileBlob.variantsReady)
+     * @return size → 축소본 URL (축소본이 아직 없거나 만들 수 없는 원본이면 빈 Map)
+     */
+    public static Map<Integer, String> urlsOf(String originalUrl, String hash, boolean variantsReady) {
+        if (!variantsReady || originalUrl == null || hash == null) {
+            return Map.of();
+        }
+        int nameStart = originalUrl.lastIndexOf('/') + 1;
+        String originalName = originalUrl.substring(nameStart);
+        if (!originalName.startsWith(hash + ".")
+                || !DECODABLE_EXTENSIONS.contains(originalName.substring(hash.length() + 1))) {
+            return Map.of();
+        }
+
+        String directoryUrl = originalUrl.substring(0, nameStart);
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (int size : SIZES) {
+            urls.put(size, directoryUrl + fileName(hash, size));
+        }
+        return urls;
+    }
+}
@@ -0,0 +1,5 @@
+package com.nonggle.server.file;
+
+// 해당 해시의 축소본이 모두 생성되어 file_blobs.variantsReady가 켜졌을 때 발행 (캐시된 응답 갱신용)
+public record ImageVariantsReadyEvent(String hash) {
+}
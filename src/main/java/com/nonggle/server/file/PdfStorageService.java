@@ -0,0 +1,122 @@
+package com.nonggle.server.file;
+
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 이력서 PDF 저장소
+ * - 공개 정적 경로(/uploads)와 분리된 디렉토리에 저장한다. 다운로드는 소유권 확인 후 컨트롤러에서만 제공
+ * - 업로드는 StreamingFileWriter로 한 번만 읽으면서 기록 + 해시(다운로드 ETag) 계산
+ */
+@Service
+public class PdfStorageService {
+
+    private static final byte[] PDF_MAGIC = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+
+    private final Path pdfLocation;
+    private final Path tempLocation;
+    private final long maxPdfSize;
+
+    public PdfStorageService(
+            @Value("${file.pdf-dir:./pdfs}") String pdfDir,
+            @Value("${file.max-pdf-size:20971520}") long maxPdfSize // 기본 20MB
+    ) {
+        this.pdfLocation = Paths.get(pdfDir).toAbsolutePath().normalize();
+        this.tempLocation = this.pdfLocation.resolve(".tmp");
+        this.maxPdfSize = maxPdfSize;
+        try {
+            Files.createDirectories(this.tempLocation);
+        } catch (Exception ex) {
+            throw new ApiException(ErrorDefine.INTERNAL_ERROR, "PDF를 저장할 디렉토리를 생성할 수 없습니다.");
+        }
+    }
+
+    public StoredPdf store(MultipartFile file) {
+        if (file.getSize() > maxPdfSize) {
+            throw new ApiException(ErrorDefine.BAD_REQUEST, "파일 크기가 제한(" + maxPdfSize / (1024 * 1024) + "MB)을 초과했습니다.");
+        }
+
+        Path tempFile = tempLocation.resolve(UUID.randomUUID() + ".upload");
+        try (InputStream in = file.getInputStream()) {
+            StreamingFileWriter.Result result = StreamingFileWriter.write(in, tempFile, maxPdfSize,
+                    PdfStorageService::detectPdf, "PDF 파일만 업로드할 수 있습니다.");
+
+            String relativePath = UUID.randomUUID() + ".pdf";
+            Files.move(tempFile, pdfLocation.resolve(relativePath), StandardCopyOption.ATOMIC_MOVE);
+            return new StoredPdf(relativePath, result.contentHash(), result.size());
+        } catch (IOException ex) {
+            throw new ApiException(ErrorDefine.INTERNAL_ERROR, "파일을 저장할 수 없습니다. " + file.getOriginalFilename());
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    // PDF 디렉토리 기준 상대 경로 → 실제 파일 경로
+    public Path resolve(String relativePath) {
+        Path path = pdfLocation.resolve(relativePath).normalize();
+        if (!path.startsWith(pdfLocation)) {
+            throw new ApiException(ErrorDefine.BAD_REQUEST, "파일 경로가 올바르지 않습니다.");
+        }
+        return path;
+    }
+
+    // 트랜잭션이 커밋된 뒤에 삭제 (롤백되면 기존 파일 유지)
+    public void deleteAfterCommit(String relativePath) {
+        Path path = resolve(relativePath);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteQuietly(path);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteQuietly(path);
+            }
+        });
+    }
+
+    // 트랜잭션이 롤백되면 삭제 (새로 저장한 파일이 DB 행 없이 남지 않도록)
+    public void deleteOnRollback(String relativePath) {
+        Path path = resolve(relativePath);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteQuietly(path);
+                }
+            }
+        });
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 남은 파일은 다운로드에 영향 없음
+        }
+    }
+
+    private static String detectPdf(byte[] header) {
+        return header.length >= PDF_MAGIC.length && Arrays.equals(header, 0, PDF_MAGIC.length, PDF_MAGIC, 0, PDF_MAGIC.length)
+                ? "pdf"
+                : null;
+    }
+}
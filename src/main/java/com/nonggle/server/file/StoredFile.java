@@ -0,0 +1,8 @@
+package com.nonggle.server.file;
+
+// 저장된 파일 정보 (hash: 참조 해제 시 사용, url: 클라이언트 노출용)
+public record StoredFile(
+        String hash,
+        String url
+) {
+}
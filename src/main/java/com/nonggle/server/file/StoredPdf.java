@@ -0,0 +1,5 @@
+package com.nonggle.server.file;
+
+// 저장된 PDF (relativePath: PDF 디렉토리 기준 경로, hash: 내용 SHA-256)
+public record StoredPdf(String relativePath, String hash, long size) {
+}
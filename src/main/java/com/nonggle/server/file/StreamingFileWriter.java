@@ -0,0 +1,94 @@
+package com.nonggle.server.file;
+
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * 업로드 스트림을 한 번만 읽으면서 디스크 기록, SHA-256 계산, 크기 제한, 파일 형식 검사를 동시에 처리한다.
+ * - 호출자가 지정한 임시 파일에 기록하고, 해시를 보고 최종 위치로 옮길지는 호출자가 결정한다.
+ * - 크기 초과/형식 불일치는 읽는 도중 즉시 중단하고 임시 파일을 삭제한다.
+ */
+final class StreamingFileWriter {
+
+    static final int HEADER_SIZE = 16;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private StreamingFileWriter() {
+    }
+
+    /**
+     * @param fileTypeDetector 파일 앞부분으로 확장자를 판별 (지원하지 않는 형식이면 null)
+     */
+    static Result write(
+            InputStream in,
+            Path tempFile,
+            long maxBytes,
+            Function<byte[], String> fileTypeDetector,
+            String invalidContentMessage
+    ) throws IOException {
+        MessageDigest digest = sha256();
+        String extension;
+        long size = 0;
+
+        try (FileChannel out = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+
+            // 1️⃣ 앞부분(매직 넘버)만 먼저 읽어서 형식이 다르면 아무것도 쓰지 않고 중단
+            byte[] header = in.readNBytes(HEADER_SIZE);
+            extension = fileTypeDetector.apply(header);
+            if (extension == null) {
+                throw new ApiException(ErrorDefine.BAD_REQUEST, invalidContentMessage);
+            }
+            size = checkSize(header.length, maxBytes);
+            digest.update(header);
+            out.write(ByteBuffer.wrap(header));
+
+            // 2️⃣ 나머지는 heap 버퍼 하나를 재사용해서 읽기 → 해시 → 기록
+            // (InputStream은 어차피 byte[]로 읽으므로 direct buffer를 쓰면 복사만 한 번 더 늘어난다)
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size = checkSize(size + read, maxBytes);
+                digest.update(buffer, 0, read);
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    out.write(chunk);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return new Result(tempFile, HexFormat.of().formatHex(digest.digest()), size, extension);
+    }
+
+    private static long checkSize(long size, long maxBytes) {
+        if (size > maxBytes) {
+            throw new ApiException(ErrorDefine.BAD_REQUEST, "파일 크기가 제한(" + maxBytes / (1024 * 1024) + "MB)을 초과했습니다.");
+        }
+        return size;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 업로드 결과 (contentHash: SHA-256 hex, extension: 내용으로 판별한 확장자)
+    record Result(Path tempFile, String contentHash, long size, String extension) {
+    }
+}
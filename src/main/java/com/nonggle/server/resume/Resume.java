@@ -3,12 +3,18 @@ package com.nonggle.server.resume;
 import com.nonggle.server.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.FetchMode;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_resume_user_id_id", columnList = "user_id, id")) // 사용자별 커서 페이지네이션용
+@DynamicUpdate // 부분 수정(PATCH) 시 바뀐 컬럼만 UPDATE
 @Getter
 @Setter
 @Builder
@@ -16,7 +22,8 @@ import java.util.List;
 @AllArgsConstructor
 public class Resume {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_seq")
+    @SequenceGenerator(name = "resume_seq", sequenceName = "resume_seq", allocationSize = 50) // id를 50개씩 미리 받아 insert batch 가능
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,12 +40,16 @@ public class Resume {
 
     @Builder.Default
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT) // 목록 조회 시 컬렉션을 이력서 수와 무관하게 한 번의 쿼리로 로딩
+    @OrderColumn(name = "list_order") // 위치별로 행을 식별 → 한 항목 수정 시 전체 삭제/재삽입 대신 해당 행만 UPDATE
     @CollectionTable(name = "resume_certification_tags", joinColumns = @JoinColumn(name = "resume_id"))
     @Column(name = "certification_title")
     private List<String> certificationTitles = new java.util.ArrayList<>();
 
     @Builder.Default
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT) // 목록 조회 시 컬렉션을 이력서 수와 무관하게 한 번의 쿼리로 로딩
+    @OrderColumn(name = "list_order") // 위치별로 행을 식별 → 한 항목 수정 시 전체 삭제/재삽입 대신 해당 행만 UPDATE
     @CollectionTable(name = "resume_career_data", joinColumns = @JoinColumn(name = "resume_id"))
     private List<CareerData> careerList = new java.util.ArrayList<>();
 
@@ -52,15 +63,27 @@ public class Resume {
 
     @Builder.Default
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT) // 목록 조회 시 컬렉션을 이력서 수와 무관하게 한 번의 쿼리로 로딩
+    @OrderColumn(name = "list_order") // 위치별로 행을 식별 → 한 항목 수정 시 전체 삭제/재삽입 대신 해당 행만 UPDATE
     @CollectionTable(name = "resume_personality_tags", joinColumns = @JoinColumn(name = "resume_id"))
     @Column(name = "personality_tag")
     private List<String> personalityTags = new java.util.ArrayList<>();
 
     private String profileImageUrl; // 프로필 사진 URL (nullable)
 
+    @Column(length = 64)
+    private String profileImageHash; // 프로필 사진 내용 해시 (삭제 시 FileStorageService 참조 해제용)
+
+    // 프로필 사진 축소본 생성 완료 여부 (조회 시 file_blobs PK로 함께 읽음, 저장하지 않음)
+    @Formula("exists (select 1 from file_blobs b where b.hash = profile_image_hash and b.variants_ready)")
+    private boolean profileImageVariantsReady;
+
     private String createdAt;
     private String updatedAt;
 
+    @Version
+    private Long version; // 낙관적 잠금 (컬렉션만 바뀌어도 증가)
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
@@ -74,6 +97,7 @@ public class Resume {
     @Embeddable
     @Getter
     @Setter
+    @EqualsAndHashCode // 수정 시 기존 항목과 값 비교
     @NoArgsConstructor
     @AllArgsConstructor
     public static class CareerData {
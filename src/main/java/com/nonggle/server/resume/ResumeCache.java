@@ -0,0 +1,94 @@
+package com.nonggle.server.resume;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 이력서 상세(ResumeResponse) read-through 캐시 (key: 이력서 id)
+ * - 저장소는 CacheConfig에서 선택 (local: Caffeine, redis: 여러 서버 공유)
+ * - 소유권은 캐시된 값의 userId로 조회할 때마다 ResumeService에서 확인한다.
+ * - 변경/삭제 시 트랜잭션 커밋 후 제거 (커밋 전 다른 요청이 옛 값을 다시 넣는 경우 방지)
+ * - 커밋 직전에 옛 값을 읽은 로더가 제거 뒤에 값을 넣을 수 있으므로 (Redis 모드는 서버 간 로딩 잠금이 없음)
+ *   second-evict-delay-ms 뒤에 한 번 더 제거한다. 옛 값이 남는 시간은 TTL이 아니라 이 지연 시간으로 제한된다.
+ */
+@Component
+public class ResumeCache {
+
+    private final Cache cache;
+    private final Executor secondEvictExecutor; // null이면 두 번째 제거 생략
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResumeCache(
+            Cache resumeCache,
+            @Value("${resume.cache.second-evict-delay-ms:1000}") long secondEvictDelayMs // 0이면 사용 안 함
+    ) {
+        this.cache = resumeCache;
+        this.secondEvictExecutor = secondEvictDelayMs > 0
+                ? CompletableFuture.delayedExecutor(secondEvictDelayMs, TimeUnit.MILLISECONDS)
+                : null;
+    }
+
+    public ResumeResponse get(Long resumeId, Supplier<ResumeResponse> loader) {
+        boolean[] loaded = {false};
+        try {
+            ResumeResponse resume = cache.get(resumeId, () -> {
+                loaded[0] = true;
+                return loader.get();
+            });
+            (loaded[0] ? misses : hits).increment();
+            return resume;
+        } catch (Cache.ValueRetrievalException e) {
+            // 로더의 예외(RESUME_NOT_FOUND 등)는 감싸지 않고 그대로 전달. 실패는 캐시하지 않는다.
+            misses.increment();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void evictAfterCommit(Long resumeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(resumeId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(resumeId);
+            }
+        });
+    }
+
+    private void evict(Long resumeId) {
+        cache.evict(resumeId);
+        if (secondEvictExecutor != null) {
+            secondEvictExecutor.execute(() -> cache.evict(resumeId));
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // 적중률 (조회가 없으면 0)
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+}
@@ -1,23 +1,45 @@
 package com.nonggle.server.resume;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.nonggle.server.auth.JwtAuthenticationToken;
+import com.nonggle.server.common.ApiException;
 import com.nonggle.server.common.ApiResponse;
+import com.nonggle.server.common.ErrorDefine;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/v1/resumes") // API 버전 관리 및 경로 설정
 @RequiredArgsConstructor
 public class ResumeController {
 
     private final ResumeService resumeService;
+    private final ResumePdfRenderService resumePdfRenderService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     @ResponseStatus(HttpStatus.CREATED)
@@ -26,23 +48,79 @@ public class ResumeController {
             @RequestPart("data") @Valid ResumeCreateRequest request,
             @RequestPart(value = "file", required = false) MultipartFile profileImage) {
 
-        if (profileImage != null) {
-            System.out.println("DEBUG: File received - Name: " + profileImage.getName());
-            System.out.println("DEBUG: File received - OriginalName: " + profileImage.getOriginalFilename());
-            System.out.println("DEBUG: File received - Size: " + profileImage.getSize());
-        } else {
-            System.out.println("DEBUG: No file received (profileImage is null)");
-        }
+        log.debug("Create resume request: profileImage={}, size={}",
+                profileImage != null ? profileImage.getOriginalFilename() : null,
+                profileImage != null ? profileImage.getSize() : 0);
 
         Long resumeId = resumeService.createResume(userId, request, profileImage);
         return ApiResponse.success(new ResumeIdResponse(resumeId));
     }
 
+    /**
+     * 이력서 일괄 등록 (기존 시스템 데이터 이전용)
+     * - JSON 배열 또는 NDJSON(한 줄에 이력서 하나)으로 ResumeCreateRequest를 전달
+     * - 본문 전체를 메모리에 올리지 않고 하나씩 읽어서 검증한 뒤 한 트랜잭션으로 저장한다. 하나라도 잘못되면 전체 취소
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<ResumeImportResponse> importResumes(
+            @AuthenticationPrincipal Long userId,
+            HttpServletRequest request) throws IOException {
+
+        try (MappingIterator<ResumeCreateRequest> requests = objectMapper
+                .readerFor(ResumeCreateRequest.class)
+                .readValues(request.getInputStream())) {
+            return ApiResponse.success(resumeService.importResumes(userId, requests));
+        }
+    }
+
+    /**
+     * 내 이력서 전체 내보내기 (NDJSON: 한 줄에 ResumeResponse 하나)
+     * - 이력서 수와 무관하게 일정한 메모리로 chunk 단위 조회 → 바로 응답에 기록
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportResumes(@AuthenticationPrincipal Long userId) {
+        ObjectWriter writer = objectMapper.writerFor(ResumeResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE); // flush는 chunk마다 한 번만
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                resumeService.exportMyResumes(userId, chunk -> {
+                    for (ResumeResponse resume : chunk) {
+                        writer.writeValue(generator, resume);
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("resumes.ndjson")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * 내 이력서 목록 조회
+     * - after/limit: 커서 기반 페이지네이션 (다음 페이지는 마지막 항목의 id를 after로 전달)
+     * - view=summary: 목록 화면용 요약 필드만 반환 (기본값 full)
+     */
     @GetMapping
-    public ApiResponse<List<ResumeResponse>> getMyResumes(
-            @AuthenticationPrincipal Long userId) {
+    public ApiResponse<List<?>> getMyResumes(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "view", defaultValue = "full") String view) {
 
-        List<ResumeResponse> resumes = resumeService.findMyResumes(userId);
+        List<?> resumes = switch (view) {
+            case "summary" -> resumeService.findMyResumeSummaries(userId, after, limit);
+            case "full" -> resumeService.findMyResumes(userId, after, limit);
+            default -> throw new ApiException(ErrorDefine.BAD_REQUEST, "view는 full 또는 summary만 가능합니다.");
+        };
         return ApiResponse.success(resumes);
     }
 
@@ -55,6 +133,16 @@ public class ResumeController {
         return ApiResponse.success(resume);
     }
 
+    // 이력서 부분 수정 (전달한 필드만 변경, version이 다르면 409)
+    @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<ResumeResponse> updateResume(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable("id") Long resumeId,
+            @RequestBody @Valid ResumeUpdateRequest request) {
+
+        return ApiResponse.success(resumeService.updateResume(userId, resumeId, request));
+    }
+
     @DeleteMapping("/{id}")
     public ApiResponse<Void> deleteResume(
             @AuthenticationPrincipal Long userId,
@@ -63,4 +151,57 @@ public class ResumeController {
         resumeService.deleteResume(userId, resumeId);
         return ApiResponse.success(null);
     }
+
+    @PostMapping(value = "/{id}/file", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
+    public ApiResponse<ResumePdfResponse> uploadPdf(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable("id") Long resumeId,
+            @RequestPart("file") MultipartFile file) {
+
+        return ApiResponse.success(resumeService.uploadPdf(userId, resumeId, file));
+    }
+
+    /**
+     * 이력서 PDF 다운로드
+     * - 파일을 메모리에 올리지 않고 디스크에서 바로 스트리밍 (Content-Length 포함 → 클라이언트에서 progress 계산)
+     * - Range 요청은 206으로 요청 구간만 전송 (이어받기), If-None-Match가 일치하면 304
+     */
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> downloadPdf(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable("id") Long resumeId) {
+
+        ResumePdfDownload pdf = resumeService.getPdf(userId, resumeId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(pdf.fileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .cacheControl(CacheControl.noCache().cachePrivate()) // 본인만 받을 수 있으므로 공유 캐시 금지, ETag로 재검증
+                .eTag(pdf.contentHash())
+                .body(new FileSystemResource(pdf.path()));
+    }
+
+    /**
+     * 이력서 내용을 PDF로 렌더링해서 다운로드
+     * - 렌더링은 별도 worker pool에서 실행 (요청 스레드는 반환), 같은 버전은 디스크 캐시에서 바로 응답
+     * - 요청이 몰려 렌더링 큐가 가득 차면 503
+     */
+    @GetMapping("/{id}/pdf")
+    public CompletableFuture<ResponseEntity<Resource>> renderPdf(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable("id") Long resumeId) {
+
+        ResumeResponse resume = resumeService.findMyResume(userId, resumeId);
+        return resumePdfRenderService.render(resume).thenApply(path -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(resume.userName() + "_이력서.pdf", StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(path.getFileName().toString()) // {resumeId}_{버전}.pdf → 이력서가 바뀌면 ETag도 바뀜
+                .body(new FileSystemResource(path)));
+    }
 }
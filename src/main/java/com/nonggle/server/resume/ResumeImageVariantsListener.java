@@ -0,0 +1,27 @@
+package com.nonggle.server.resume;
+
+import com.nonggle.server.file.ImageVariantsReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로필 사진 축소본이 생성되면 그 사진을 쓰는 이력서의 캐시를 제거한다.
+ * - 업로드 직후 캐시된 응답은 profileImageVariants가 비어 있어, 제거하지 않으면 TTL 동안 원본 URL만 내려간다.
+ * - 축소본 생성 스레드(트랜잭션 없음)에서 호출되므로 즉시 제거되고, ResumeCache의 두 번째 제거도 그대로 적용된다.
+ */
+@Component
+public class ResumeImageVariantsListener {
+
+    private final ResumeRepository resumeRepository;
+    private final ResumeCache resumeCache;
+
+    public ResumeImageVariantsListener(ResumeRepository resumeRepository, ResumeCache resumeCache) {
+        this.resumeRepository = resumeRepository;
+        this.resumeCache = resumeCache;
+    }
+
+    @EventListener
+    public void onImageVariantsReady(ImageVariantsReadyEvent event) {
+        resumeRepository.findIdsByProfileImageHash(event.hash()).forEach(resumeCache::evictAfterCommit);
+    }
+}
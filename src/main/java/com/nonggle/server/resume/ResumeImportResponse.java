@@ -0,0 +1,5 @@
+package com.nonggle.server.resume;
+
+// 이력서 일괄 등록 결과
+public record ResumeImportResponse(int importedCount) {
+}
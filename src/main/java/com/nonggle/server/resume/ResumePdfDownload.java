@@ -0,0 +1,7 @@
+package com.nonggle.server.resume;
+
+import java.nio.file.Path;
+
+// PDF 다운로드에 필요한 정보 (본문은 컨트롤러에서 파일로부터 바로 스트리밍)
+public record ResumePdfDownload(Path path, String fileName, long size, String contentHash) {
+}
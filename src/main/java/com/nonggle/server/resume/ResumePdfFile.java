@@ -0,0 +1,54 @@
+package com.nonggle.server.resume;
+
+import com.nonggle.server.file.StoredPdf;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// 이력서에 첨부된 PDF 파일 (이력서당 1개, 다시 올리면 교체)
+@Entity
+@Table(name = "resume_pdf_files")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumePdfFile {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resume_id", nullable = false, unique = true)
+    private Resume resume;
+
+    private String originalFileName; // Content-Disposition 파일명
+
+    @Column(nullable = false)
+    private String storedPath; // PDF 디렉토리 기준 경로
+
+    private long size;
+
+    @Column(length = 64)
+    private String contentHash; // 다운로드 ETag
+
+    private String uploadedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.uploadedAt = now();
+    }
+
+    public void replaceFile(StoredPdf storedPdf, String originalFileName) {
+        this.storedPath = storedPdf.relativePath();
+        this.size = storedPdf.size();
+        this.contentHash = storedPdf.hash();
+        this.originalFileName = originalFileName;
+        this.uploadedAt = now();
+    }
+
+    private static String now() {
+        return LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
@@ -0,0 +1,9 @@
+package com.nonggle.server.resume;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ResumePdfFileRepository extends JpaRepository<ResumePdfFile, Long> {
+    Optional<ResumePdfFile> findByResumeId(Long resumeId);
+}
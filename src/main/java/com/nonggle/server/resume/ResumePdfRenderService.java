@@ -0,0 +1,190 @@
+package com.nonggle.server.resume;
+
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.file.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이력서 PDF 렌더링 + 디스크 캐시
+ * - 캐시 파일: {cache-dir}/{resumeId}_v{버전}.pdf (버전 = 엔티티 @Version 값)
+ * - 이력서가 수정되면 버전이 바뀌어 자동으로 다시 렌더링되고, 더 낮은 버전 파일만 그때 삭제한다.
+ * - 렌더링은 pdfRenderExecutor(고정 크기 풀)에서 실행하고, 같은 버전을 동시에 요청하면 한 번만 렌더링한다.
+ */
+@Slf4j
+@Service
+public class ResumePdfRenderService {
+
+    private static final int PROFILE_IMAGE_VARIANT = 256; // PDF 사진 크기(90pt)에 충분한 축소본
+
+    private final ResumePdfRenderer renderer;
+    private final FileStorageService fileStorageService;
+    private final Executor executor;
+    private final Path cacheLocation;
+
+    private final ConcurrentMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    public ResumePdfRenderService(
+            ResumePdfRenderer renderer,
+            FileStorageService fileStorageService,
+            @Qualifier("pdfRenderExecutor") Executor executor,
+            @Value("${resume.pdf.cache-dir:./pdf-cache}") String cacheDir
+    ) {
+        this.renderer = renderer;
+        this.fileStorageService = fileStorageService;
+        this.executor = executor;
+        this.cacheLocation = Paths.get(cacheDir).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.cacheLocation);
+        } catch (IOException ex) {
+            throw new ApiException(ErrorDefine.INTERNAL_ERROR, "PDF 캐시 디렉토리를 생성할 수 없습니다.");
+        }
+    }
+
+    /**
+     * @return 렌더링된(또는 캐시된) PDF 파일 경로. 큐가 가득 차면 SERVICE_BUSY로 실패
+     */
+    public CompletableFuture<Path> render(ResumeResponse resume) {
+        String fileName = fileNameOf(resume.id(), versionOf(resume));
+        Path target = cacheLocation.resolve(fileName);
+        if (Files.exists(target)) {
+            cacheHits.increment();
+            return CompletableFuture.completedFuture(target);
+        }
+
+        CompletableFuture<Path> rendering = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(fileName, rendering);
+        if (existing != null) {
+            cacheHits.increment(); // 다른 요청이 렌더링 중인 결과를 공유
+            return existing;
+        }
+
+        cacheMisses.increment();
+        try {
+            executor.execute(() -> {
+                try {
+                    rendering.complete(renderTo(resume, target));
+                } catch (Throwable e) {
+                    rendering.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(fileName, rendering);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(fileName, rendering);
+            rendering.completeExceptionally(new ApiException(ErrorDefine.SERVICE_BUSY));
+        }
+        return rendering;
+    }
+
+    // 이력서 삭제 시 캐시 제거 (트랜잭션 커밋 후)
+    public void evictAfterCommit(Long resumeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(resumeId, Long.MAX_VALUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(resumeId, Long.MAX_VALUE);
+            }
+        });
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMisses.sum();
+    }
+
+    private Path renderTo(ResumeResponse resume, Path target) {
+        Path tempFile = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                renderer.render(resume, profileImageOf(resume).orElse(null), out);
+            }
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            evict(resume.id(), versionOf(resume)); // 이전 버전 정리 (늦게 끝난 이전 렌더링이 새 파일을 지우지 않도록)
+            return target;
+        } catch (IOException e) {
+            log.warn("Failed to render resume PDF: resumeId={}", resume.id(), e);
+            throw new ApiException(ErrorDefine.INTERNAL_ERROR, "PDF를 생성할 수 없습니다.");
+        } finally {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignored) {
+                // 남은 임시 파일은 캐시 조회에 영향 없음
+            }
+        }
+    }
+
+    private Optional<Path> profileImageOf(ResumeResponse resume) {
+        String variantUrl = resume.profileImageVariants() != null
+                ? resume.profileImageVariants().get(PROFILE_IMAGE_VARIANT)
+                : null;
+        return fileStorageService.findStoredFile(variantUrl)
+                .or(() -> fileStorageService.findStoredFile(resume.profileImageUrl()));
+    }
+
+    // olderThan보다 낮은 버전의 캐시 파일만 삭제 (삭제 시에는 Long.MAX_VALUE로 전부)
+    private void evict(Long resumeId, long olderThan) {
+        String prefix = resumeId + "_";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheLocation, prefix + "*.pdf")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String version = name.substring(prefix.length(), name.length() - ".pdf".length());
+                if (isOlder(version, olderThan)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to evict resume PDF cache: resumeId={}", resumeId, e);
+        }
+    }
+
+    // v 접두사가 없는 파일(updatedAt 기준이던 이전 형식)은 항상 오래된 것으로 본다
+    private static boolean isOlder(String version, long olderThan) {
+        if (!version.startsWith("v")) {
+            return true;
+        }
+        try {
+            return Long.parseLong(version.substring(1)) < olderThan;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static String fileNameOf(Long resumeId, long version) {
+        return resumeId + "_v" + version + ".pdf";
+    }
+
+    private static long versionOf(ResumeResponse resume) {
+        return resume.version() == null ? 0L : resume.version();
+    }
+}
@@ -0,0 +1,304 @@
+package com.nonggle.server.resume;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 이력서 → PDF 렌더링 (A4, 자동 줄바꿈/페이지 넘김)
+ * - 한글 출력에는 TrueType 폰트가 필요하다. resume.pdf.font-path 또는 시스템 기본 경로에서 찾고,
+ *   없으면 Helvetica로 렌더링하며 표시할 수 없는 글자는 '?'로 대체한다.
+ * - 폰트 파일은 시작 시 한 번만 읽고, 문서마다 사용한 글자만 subset으로 포함한다.
+ */
+@Slf4j
+@Component
+public class ResumePdfRenderer {
+
+    private static final PDRectangle PAGE_SIZE = PDRectangle.A4;
+    private static final float MARGIN = 50;
+    private static final float CONTENT_WIDTH = PAGE_SIZE.getWidth() - MARGIN * 2;
+    private static final float IMAGE_SIZE = 90;
+    private static final float TITLE_SIZE = 20;
+    private static final float NAME_SIZE = 16;
+    private static final float HEADING_SIZE = 13;
+    private static final float BODY_SIZE = 10.5f;
+    private static final float LINE_SPACING = 1.45f;
+
+    private static final List<String> SYSTEM_FONT_PATHS = List.of(
+            "/usr/share/fonts/truetype/nanum/NanumGothic.ttf",
+            "/usr/share/fonts/nanum/NanumGothic.ttf",
+            "/usr/share/fonts/truetype/unfonts-core/UnDotum.ttf",
+            "/Library/Fonts/AppleGothic.ttf",
+            "C:/Windows/Fonts/malgun.ttf"
+    );
+
+    @Nullable
+    private final byte[] fontBytes;
+
+    public ResumePdfRenderer(@Value("${resume.pdf.font-path:}") String fontPath) {
+        this.fontBytes = loadFont(fontPath);
+    }
+
+    public void render(ResumeResponse resume, @Nullable Path profileImage, OutputStream out) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDFont font = fontBytes != null
+                    ? PDType0Font.load(document, new ByteArrayInputStream(fontBytes))
+                    : new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+
+            try (Layout layout = new Layout(document, font)) {
+                writeHeader(layout, resume, profileImage);
+                writeCareers(layout, resume);
+                layout.section("자격증");
+                layout.paragraph(joined(resume.certificationList()), BODY_SIZE, CONTENT_WIDTH);
+                layout.section("성격");
+                layout.paragraph(joined(resume.personalityList()), BODY_SIZE, CONTENT_WIDTH);
+                layout.section("자기소개");
+                layout.paragraph(resume.introduce(), BODY_SIZE, CONTENT_WIDTH);
+                layout.gap(BODY_SIZE * 0.5f);
+                layout.paragraph(resume.introduceDetail(), BODY_SIZE, CONTENT_WIDTH);
+            }
+            document.save(out);
+        }
+    }
+
+    private void writeHeader(Layout layout, ResumeResponse resume, @Nullable Path profileImage) throws IOException {
+        float top = layout.y();
+        float textWidth = CONTENT_WIDTH;
+        if (profileImage != null && layout.image(profileImage)) {
+            textWidth -= IMAGE_SIZE + 10; // 사진 왼쪽 영역에만 텍스트 배치
+        }
+
+        layout.paragraph("이력서", TITLE_SIZE, textWidth);
+        layout.gap(6);
+        layout.paragraph(resume.userName(), NAME_SIZE, textWidth);
+        layout.paragraph(String.join("  ·  ",
+                "나이 " + nullToEmpty(resume.userAge()),
+                "성별 " + genderOf(resume.userGender()),
+                "생년월일 " + nullToEmpty(resume.birthDate())), BODY_SIZE, textWidth);
+
+        layout.moveBelow(top - IMAGE_SIZE);
+    }
+
+    private void writeCareers(Layout layout, ResumeResponse resume) throws IOException {
+        layout.section("경력" + (resume.totalCareer() != null ? " (총 " + resume.totalCareer() + ")" : ""));
+        if (resume.careerList() == null || resume.careerList().isEmpty()) {
+            layout.paragraph("-", BODY_SIZE, CONTENT_WIDTH);
+            return;
+        }
+        for (ResumeResponse.CareerResponseData career : resume.careerList()) {
+            layout.paragraph(nullToEmpty(career.careerStartDate()) + " ~ " + nullToEmpty(career.careerEndDate())
+                    + (career.careerPeriod() != null ? " (" + career.careerPeriod() + ")" : ""), BODY_SIZE, CONTENT_WIDTH);
+            layout.paragraph(career.careerDescription(), BODY_SIZE, CONTENT_WIDTH);
+            layout.paragraph(career.careerDetail(), BODY_SIZE, CONTENT_WIDTH);
+            layout.gap(BODY_SIZE * 0.5f);
+        }
+    }
+
+    private static String joined(@Nullable List<String> values) {
+        return values == null || values.isEmpty() ? "-" : String.join(", ", values);
+    }
+
+    private static String genderOf(@Nullable String gender) {
+        if ("MALE".equalsIgnoreCase(gender)) return "남";
+        if ("FEMALE".equalsIgnoreCase(gender)) return "여";
+        return nullToEmpty(gender);
+    }
+
+    private static String nullToEmpty(@Nullable String value) {
+        return value == null ? "" : value;
+    }
+
+    @Nullable
+    private static byte[] loadFont(String fontPath) {
+        Stream<String> candidates = fontPath == null || fontPath.isBlank()
+                ? SYSTEM_FONT_PATHS.stream()
+                : Stream.concat(Stream.of(fontPath), SYSTEM_FONT_PATHS.stream());
+        for (String candidate : candidates.toList()) {
+            Path path = Path.of(candidate);
+            if (Files.isReadable(path)) {
+                try {
+                    log.info("Resume PDF font: {}", path);
+                    return Files.readAllBytes(path);
+                } catch (IOException e) {
+                    log.warn("Failed to read resume PDF font: {}", path, e);
+                }
+            }
+        }
+        log.warn("No Korean TrueType font found for resume PDF (set resume.pdf.font-path). Falling back to Helvetica.");
+        return null;
+    }
+
+    // 현재 페이지/커서 위치를 관리하며 줄바꿈과 페이지 넘김을 처리
+    private static final class Layout implements Closeable {
+
+        private final PDDocument document;
+        private final PDFont font;
+        private final Map<Integer, Boolean> encodable = new HashMap<>(); // 글자별 폰트 지원 여부
+        private PDPageContentStream content;
+        private float y;
+
+        Layout(PDDocument document, PDFont font) throws IOException {
+            this.document = document;
+            this.font = font;
+            newPage();
+        }
+
+        float y() {
+            return y;
+        }
+
+        void gap(float height) {
+            y -= height;
+        }
+
+        void moveBelow(float position) {
+            y = Math.min(y, position);
+        }
+
+        // 오른쪽 위에 사진 배치 (JPEG는 재인코딩 없이 그대로 포함)
+        boolean image(Path file) throws IOException {
+            PDImageXObject image;
+            try {
+                image = PDImageXObject.createFromFileByContent(file.toFile(), document);
+            } catch (IOException | IllegalArgumentException e) {
+                return false; // 지원하지 않는 형식(webp/heic 등)은 사진 없이 렌더링
+            }
+            float scale = IMAGE_SIZE / Math.max(image.getWidth(), image.getHeight());
+            float width = image.getWidth() * scale;
+            float height = image.getHeight() * scale;
+            content.drawImage(image, PAGE_SIZE.getWidth() - MARGIN - width, y - height, width, height);
+            return true;
+        }
+
+        void section(String title) throws IOException {
+            gap(HEADING_SIZE);
+            paragraph(title, HEADING_SIZE, CONTENT_WIDTH);
+            ensureSpace(4);
+            content.moveTo(MARGIN, y - 3);
+            content.lineTo(MARGIN + CONTENT_WIDTH, y - 3);
+            content.stroke();
+            gap(6);
+        }
+
+        void paragraph(@Nullable String text, float size, float maxWidth) throws IOException {
+            if (text == null || text.isBlank()) {
+                return;
+            }
+            for (String paragraph : text.split("\\R")) {
+                for (String line : wrap(paragraph, size, maxWidth)) {
+                    line(line, size);
+                }
+            }
+        }
+
+        private void line(String text, float size) throws IOException {
+            float lineHeight = size * LINE_SPACING;
+            ensureSpace(lineHeight);
+            y -= lineHeight;
+            content.beginText();
+            content.setFont(font, size);
+            content.newLineAtOffset(MARGIN, y);
+            content.showText(text);
+            content.endText();
+        }
+
+        // 글자 폭을 누적하며 maxWidth를 넘기 전에 줄바꿈 (가능하면 공백에서, 아니면 글자 단위)
+        private List<String> wrap(String text, float size, float maxWidth) throws IOException {
+            List<String> lines = new ArrayList<>();
+            StringBuilder line = new StringBuilder();
+            float width = 0;
+            int lastSpace = -1;
+
+            for (int i = 0; i < text.length(); ) {
+                int codePoint = text.codePointAt(i);
+                i += Character.charCount(codePoint);
+                String glyph = printable(codePoint);
+                float glyphWidth = font.getStringWidth(glyph) / 1000 * size;
+
+                if (width + glyphWidth > maxWidth && !line.isEmpty()) {
+                    if (lastSpace > 0) {
+                        lines.add(line.substring(0, lastSpace));
+                        String rest = line.substring(lastSpace + 1);
+                        line.setLength(0);
+                        line.append(rest);
+                        width = font.getStringWidth(rest) / 1000 * size;
+                    } else {
+                        lines.add(line.toString());
+                        line.setLength(0);
+                        width = 0;
+                    }
+                    lastSpace = -1;
+                }
+                if (" ".equals(glyph)) {
+                    lastSpace = line.length();
+                }
+                line.append(glyph);
+                width += glyphWidth;
+            }
+            if (!line.isEmpty()) {
+                lines.add(line.toString());
+            }
+            return lines;
+        }
+
+        private String printable(int codePoint) {
+            if (Character.isISOControl(codePoint) || Character.isWhitespace(codePoint)) {
+                return " ";
+            }
+            String glyph = Character.toString(codePoint);
+            return encodable.computeIfAbsent(codePoint, c -> canEncode(glyph)) ? glyph : "?";
+        }
+
+        private boolean canEncode(String glyph) {
+            try {
+                font.encode(glyph);
+                return true;
+            } catch (IOException | IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        private void ensureSpace(float height) throws IOException {
+            if (y - height < MARGIN) {
+                newPage();
+            }
+        }
+
+        private void newPage() throws IOException {
+            if (content != null) {
+                content.close();
+            }
+            PDPage page = new PDPage(PAGE_SIZE);
+            document.addPage(page);
+            content = new PDPageContentStream(document, page);
+            y = PAGE_SIZE.getHeight() - MARGIN;
+        }
+
+        @Override
+        public void close() throws IOException {
+            content.close();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.nonggle.server.resume;
+
+import org.springframework.lang.Nullable;
+
+// PDF 업로드 결과
+public record ResumePdfResponse(
+        String fileName,
+        long size,
+        @Nullable String uploadedAt
+) {
+    public static ResumePdfResponse from(ResumePdfFile pdfFile) {
+        return new ResumePdfResponse(pdfFile.getOriginalFileName(), pdfFile.getSize(), pdfFile.getUploadedAt());
+    }
+}
@@ -1,10 +1,40 @@
 package com.nonggle.server.resume;
 
-import com.nonggle.server.user.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
-    List<Resume> findAllByUser(User user);
+    // 같은 이력서에 대한 쓰기를 순서대로 처리 (select ... for update)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Resume r where r.id = :id")
+    Optional<Resume> findByIdForUpdate(@Param("id") Long id);
+
+    // 같은 프로필 사진을 쓰는 이력서 (축소본 생성 완료 시 캐시 제거용)
+    @Query("select r.id from Resume r where r.profileImageHash = :hash")
+    List<Long> findIdsByProfileImageHash(@Param("hash") String hash);
+
+    // (user_id, id) 인덱스를 타는 keyset 페이지네이션
+    List<Resume> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long after, Limit limit);
+
+    // 목록 화면용 요약 projection (긴 텍스트/컬렉션 컬럼은 읽지 않음)
+    @Query("""
+            select new com.nonggle.server.resume.ResumeSummaryResponse(
+                r.id, r.userName, r.totalCareer, r.profileImageUrl, r.profileImageHash, r.profileImageVariantsReady,
+                r.updatedAt)
+            from Resume r
+            where r.user.id = :userId and r.id > :after
+            order by r.id asc
+            """)
+    List<ResumeSummaryResponse> findSummariesByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("after") Long after,
+            Limit limit
+    );
 }
@@ -1,8 +1,10 @@
 package com.nonggle.server.resume;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.nonggle.server.file.ImageVariants;
 import org.springframework.lang.Nullable;
 
 public record ResumeResponse(
@@ -19,8 +21,10 @@ public record ResumeResponse(
         @Nullable String introduceDetail,
         @Nullable List<String> personalityList,
         @Nullable String profileImageUrl,
+        Map<Integer, String> profileImageVariants, // 긴 변 픽셀 크기 → 축소본 URL (없으면 빈 객체)
         @Nullable String createdAt,
-        @Nullable String updatedAt
+        @Nullable String updatedAt,
+        Long version // 수정(PATCH) 시 그대로 전달 → 그 사이 다른 수정이 있었으면 409
 ) {
     public static ResumeResponse from(Resume resume) {
         return new ResumeResponse(
@@ -30,7 +34,8 @@ public record ResumeResponse(
                 resume.getBirthDate(),
                 resume.getUserAge(),
                 resume.getGender(),
-                resume.getCertificationTitles() != null ? resume.getCertificationTitles() : new java.util.ArrayList<>(),
+                // 응답이 캐시(ResumeCache)에 담기므로 Hibernate 컬렉션 대신 복사본을 사용
+                resume.getCertificationTitles() != null ? new java.util.ArrayList<>(resume.getCertificationTitles()) : new java.util.ArrayList<>(),
                 resume.getCareerList() != null ?
                         resume.getCareerList().stream()
                                 .filter(c -> c != null)
@@ -39,10 +44,12 @@ public record ResumeResponse(
                 resume.getTotalCareer(),
                 resume.getIntroduce(),
                 resume.getIntroduceDetail(),
-                resume.getPersonalityTags() != null ? resume.getPersonalityTags() : new java.util.ArrayList<>(),
+                resume.getPersonalityTags() != null ? new java.util.ArrayList<>(resume.getPersonalityTags()) : new java.util.ArrayList<>(),
                 resume.getProfileImageUrl(),
+                ImageVariants.urlsOf(resume.getProfileImageUrl(), resume.getProfileImageHash(), resume.isProfileImageVariantsReady()),
                 resume.getCreatedAt(),
-                resume.getUpdatedAt()
+                resume.getUpdatedAt(),
+                resume.getVersion()
         );
     }
 
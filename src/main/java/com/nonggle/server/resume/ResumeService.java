@@ -1,47 +1,252 @@
 package com.nonggle.server.resume;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.nonggle.server.common.ApiException;
 import com.nonggle.server.common.ErrorDefine;
 import com.nonggle.server.file.FileStorageService;
+import com.nonggle.server.file.PdfStorageService;
+import com.nonggle.server.file.StoredFile;
+import com.nonggle.server.file.StoredPdf;
 import com.nonggle.server.user.User;
 import com.nonggle.server.user.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "resume.service", histogram = true) // public 메서드별 처리 시간 (tag: class, method)
 public class ResumeService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_IMPORT_COUNT = 10_000;
+    private static final int IMPORT_CHUNK_SIZE = 500; // flush/clear 단위 (JDBC batch 크기의 배수)
+    private static final int EXPORT_CHUNK_SIZE = 100;
+
     private final ResumeRepository resumeRepository;
     private final UserRepository userRepository; // User 엔티티를 찾기 위함
     private final FileStorageService fileStorageService;
+    private final ResumePdfFileRepository resumePdfFileRepository;
+    private final PdfStorageService pdfStorageService;
+    private final ResumePdfRenderService resumePdfRenderService;
+    private final ResumeCache resumeCache;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
 
     @Transactional
     public Long createResume(Long userId, ResumeCreateRequest request, MultipartFile profileImage) {
-        System.out.println("DEBUG: Creating resume for user - ID: " + userId + ", Name: " + request.userName());
-
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(ErrorDefine.UNAUTHORIZED));
 
-        String profileImageUrl = null;
+        StoredFile storedProfileImage = null;
         if (profileImage != null && !profileImage.isEmpty()) {
-            profileImageUrl = fileStorageService.storeFile(profileImage);
+            storedProfileImage = fileStorageService.storeFile(profileImage);
+        }
+
+        Resume resume = toResume(user, request, storedProfileImage);
+        resumeRepository.save(resume);
+        resumeCache.evictAfterCommit(resume.getId()); // DB 초기화 등으로 id가 재사용돼도 공유 캐시(redis)의 옛 값이 보이지 않도록
+        log.debug("Resume created: resumeId={}, profileImage={}", resume.getId(), storedProfileImage != null); // userId는 MDC에 포함
+        return resume.getId();
+    }
+
+    /**
+     * 이력서 일괄 등록 (기존 시스템 데이터 이전용, 전체 성공 또는 전체 실패)
+     * - 1단계(트랜잭션 밖): 요청을 하나씩 읽어 검증하고 임시 파일(NDJSON)에 기록 → 느린 업로드 동안 DB 커넥션을 잡지 않음
+     * - 2단계(트랜잭션 1개): 임시 파일을 다시 읽으며 IMPORT_CHUNK_SIZE 단위로 flush/clear → 건수와 무관하게 메모리 사용량 일정
+     * - 이력서/컬렉션 행 insert는 hibernate.jdbc.batch_size 단위로 묶여 전송된다. (JpaConfig)
+     */
+    public ResumeImportResponse importResumes(Long userId, Iterator<ResumeCreateRequest> requests) {
+        if (!userRepository.existsById(userId)) {
+            throw new ApiException(ErrorDefine.UNAUTHORIZED);
+        }
+
+        Path spool;
+        try {
+            spool = Files.createTempFile("resume-import-", ".ndjson");
+        } catch (IOException e) {
+            throw new ApiException(ErrorDefine.INTERNAL_ERROR, "일괄 등록 데이터를 임시 저장할 수 없습니다.");
+        }
+        try {
+            int count = spoolImportRequests(requests, spool);
+            transactionTemplate.executeWithoutResult(status -> insertImportedResumes(userId, spool));
+            return new ResumeImportResponse(count);
+        } finally {
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("Failed to delete resume import spool: {}", spool, e);
+            }
+        }
+    }
+
+    // 검증을 통과한 요청만 임시 파일에 기록하고 건수 반환
+    private int spoolImportRequests(Iterator<ResumeCreateRequest> requests, Path spool) {
+        int count = 0;
+        try (SequenceWriter writer = objectMapper.writerFor(ResumeCreateRequest.class).writeValues(spool.toFile())) {
+            ResumeCreateRequest request;
+            while ((request = nextImportRequest(requests, count)) != null) {
+                if (++count > MAX_IMPORT_COUNT) {
+                    throw new ApiException(ErrorDefine.BAD_REQUEST, "한 번에 " + MAX_IMPORT_COUNT + "개까지 등록할 수 있습니다.");
+                }
+                validateImportRequest(request, count);
+                writer.write(request);
+            }
+        } catch (IOException e) {
+            throw new ApiException(ErrorDefine.INTERNAL_ERROR, "일괄 등록 데이터를 임시 저장할 수 없습니다.");
+        }
+        return count;
+    }
+
+    private void insertImportedResumes(Long userId, Path spool) {
+        List<Resume> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        User user = userRepository.getReferenceById(userId);
+        try (MappingIterator<ResumeCreateRequest> requests = objectMapper
+                .readerFor(ResumeCreateRequest.class)
+                .readValues(spool.toFile())) {
+            while (requests.hasNext()) {
+                chunk.add(toResume(user, requests.next(), null));
+
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    flushImportChunk(chunk);
+                    user = userRepository.getReferenceById(userId); // clear 이후 새 참조 사용
+                }
+            }
+        } catch (IOException e) {
+            throw new ApiException(ErrorDefine.INTERNAL_ERROR, "일괄 등록 데이터를 읽을 수 없습니다.");
+        }
+        flushImportChunk(chunk);
+    }
+
+    private ResumeCreateRequest nextImportRequest(Iterator<ResumeCreateRequest> requests, int count) {
+        try {
+            return requests.hasNext() ? requests.next() : null;
+        } catch (RuntimeException e) { // JSON 형식 오류 (MappingIterator는 unchecked 예외로 감싸서 던짐)
+            throw new ApiException(ErrorDefine.BAD_REQUEST, (count + 1) + "번째 이력서를 읽을 수 없습니다.");
         }
+    }
 
-        // null-safe mapping for lists (ensure they are NEVER null when saving to DB)
-        List<String> certificationTitles = (request.certificationList() == null) ? new java.util.ArrayList<>() :
-                request.certificationList().stream()
+    private void validateImportRequest(ResumeCreateRequest request, int index) {
+        Set<ConstraintViolation<ResumeCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<ResumeCreateRequest> violation = violations.iterator().next();
+            throw new ApiException(ErrorDefine.BAD_REQUEST,
+                    index + "번째 이력서: " + violation.getPropertyPath() + " " + violation.getMessage());
+        }
+    }
+
+    private void flushImportChunk(List<Resume> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        resumeRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear(); // 저장한 엔티티를 영속성 컨텍스트에서 분리
+        chunk.clear();
+    }
+
+    /**
+     * 커서 기반 목록 조회 (이력서 1회 + 컬렉션별 subselect 1회씩, 이력서 개수와 무관하게 고정된 쿼리 수)
+     * @param after 이전 페이지 마지막 이력서 id (null이면 처음부터)
+     * @param limit 페이지 크기 (null이면 전체)
+     */
+    @Transactional
+    public List<ResumeResponse> findMyResumes(Long userId, Long after, Integer limit) {
+        List<Resume> resumes = resumeRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                userId, cursorOf(after), limitOf(limit));
+        return resumes.stream()
+                .map(ResumeResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 내 이력서 전체를 id 순서로 EXPORT_CHUNK_SIZE개씩 읽어서 writer에 전달 (NDJSON 내보내기용)
+     * - chunk마다 keyset 조회(이력서 1회 + 컬렉션 subselect 3회) 후 DTO로 변환 → 메모리에는 chunk 하나만 유지
+     * - chunk마다 별도 트랜잭션: 응답을 느리게 받는 클라이언트가 DB 커넥션을 점유하지 않음
+     */
+    public int exportMyResumes(Long userId, ResumeChunkWriter writer) throws IOException {
+        long cursor = 0L;
+        int count = 0;
+        List<ResumeResponse> chunk;
+        do {
+            long after = cursor;
+            chunk = transactionTemplate.execute(status -> resumeRepository
+                    .findByUserIdAndIdGreaterThanOrderByIdAsc(userId, after, Limit.of(EXPORT_CHUNK_SIZE))
+                    .stream()
+                    .map(ResumeResponse::from)
+                    .toList());
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            writer.write(chunk);
+            count += chunk.size();
+            cursor = chunk.get(chunk.size() - 1).id();
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
+        return count;
+    }
+
+    @FunctionalInterface
+    public interface ResumeChunkWriter {
+        void write(List<ResumeResponse> chunk) throws IOException;
+    }
+
+    public List<ResumeSummaryResponse> findMyResumeSummaries(Long userId, Long after, Integer limit) {
+        return resumeRepository.findSummariesByUserIdAfter(userId, cursorOf(after), limitOf(limit));
+    }
+
+    private Resume toResume(User user, ResumeCreateRequest request, StoredFile storedProfileImage) {
+        return Resume.builder()
+                .user(user)
+                .userName(request.userName())
+                .userAge(request.userAge())
+                .birthDate(request.birthDate())
+                .gender(request.gender())
+                .certificationTitles(toCertificationTitles(request.certificationList()))
+                .careerList(toCareerList(request.careerList()))
+                .totalCareer(request.totalCareer())
+                .introduce(request.introduce())
+                .introduceDetail(request.introduceDetail())
+                .personalityTags(toPersonalityTags(request.personalityList()))
+                .profileImageUrl(storedProfileImage != null ? storedProfileImage.url() : null)
+                .profileImageHash(storedProfileImage != null ? storedProfileImage.hash() : null)
+                .build();
+    }
+
+    // null-safe mapping for lists (ensure they are NEVER null when saving to DB)
+    private static List<String> toCertificationTitles(List<ResumeCreateRequest.CertificationTag> certificationList) {
+        return (certificationList == null) ? new java.util.ArrayList<>() :
+                certificationList.stream()
                         .filter(c -> c != null && c.certificationTitle() != null)
                         .map(ResumeCreateRequest.CertificationTag::certificationTitle)
                         .collect(Collectors.toList());
+    }
 
-        List<Resume.CareerData> careerList = (request.careerList() == null) ? new java.util.ArrayList<>() :
-                request.careerList().stream()
+    private static List<Resume.CareerData> toCareerList(List<ResumeCreateRequest.CareerFormData> careerList) {
+        return (careerList == null) ? new java.util.ArrayList<>() :
+                careerList.stream()
                         .filter(c -> c != null)
                         .map(careerData -> new Resume.CareerData(
                                 careerData.careerStartDate(),
@@ -51,62 +256,187 @@ public class ResumeService {
                                 careerData.careerDetail()
                         ))
                         .collect(Collectors.toList());
+    }
 
-        List<String> personalityTags = (request.personalityList() == null) ? new java.util.ArrayList<>() :
-                request.personalityList().stream()
+    private static List<String> toPersonalityTags(List<ResumeCreateRequest.PersonalityTag> personalityList) {
+        return (personalityList == null) ? new java.util.ArrayList<>() :
+                personalityList.stream()
                         .filter(p -> p != null && p.personality() != null)
                         .map(ResumeCreateRequest.PersonalityTag::personality)
                         .collect(Collectors.toList());
+    }
 
-        Resume resume = Resume.builder()
-                .user(user)
-                .userName(request.userName())
-                .userAge(request.userAge())
-                .birthDate(request.birthDate())
-                .gender(request.gender())
-                .certificationTitles(certificationTitles)
-                .careerList(careerList)
-                .totalCareer(request.totalCareer())
-                .introduce(request.introduce())
-                .introduceDetail(request.introduceDetail())
-                .personalityTags(personalityTags)
-                .profileImageUrl(profileImageUrl)
-                .build();
-
-        resumeRepository.save(resume);
-        System.out.println("DEBUG: Resume saved successfully with ID: " + resume.getId());
-        return resume.getId();
+    // 위치별 비교: 같은 값은 그대로 두고 바뀐 위치만 교체, 늘어난 항목은 추가, 줄어든 뒤쪽 항목은 삭제
+    private static <T> void mergeList(List<T> current, List<T> updated) {
+        for (int i = 0; i < updated.size(); i++) {
+            if (i >= current.size()) {
+                current.add(updated.get(i));
+            } else if (!Objects.equals(current.get(i), updated.get(i))) {
+                current.set(i, updated.get(i));
+            }
+        }
+        while (current.size() > updated.size()) {
+            current.remove(current.size() - 1);
+        }
     }
 
-    public List<ResumeResponse> findMyResumes(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorDefine.UNAUTHORIZED));
+    private Long cursorOf(Long after) {
+        return after == null ? 0L : after;
+    }
 
-        List<Resume> resumes = resumeRepository.findAllByUser(user);
-        return resumes.stream()
-                .map(ResumeResponse::from)
-                .collect(Collectors.toList());
+    private Limit limitOf(Integer limit) {
+        if (limit == null) {
+            return Limit.unlimited();
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ApiException(ErrorDefine.BAD_REQUEST, "limit은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return Limit.of(limit);
     }
 
+    // 캐시 적중 시 DB 커넥션/트랜잭션 없이 응답. 소유권은 캐시된 값으로 매번 확인한다.
     public ResumeResponse findMyResume(Long userId, Long resumeId) {
-        Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new ApiException(ErrorDefine.RESUME_NOT_FOUND));
+        ResumeResponse resume = resumeCache.get(resumeId, () -> transactionTemplate.execute(status ->
+                ResumeResponse.from(resumeRepository.findById(resumeId)
+                        .orElseThrow(() -> new ApiException(ErrorDefine.RESUME_NOT_FOUND)))));
 
-        if (!resume.getUser().getId().equals(userId)) {
+        if (!resume.userId().equals(userId)) {
             throw new ApiException(ErrorDefine.FORBIDDEN);
         }
+        return resume;
+    }
+
+    /**
+     * 이력서 부분 수정 (PATCH)
+     * - 바뀐 컬럼만 UPDATE (@DynamicUpdate), 목록은 @OrderColumn 기준으로 바뀐 행만 UPDATE/INSERT/DELETE
+     * - request.version이 현재 버전과 다르면 409. 동시에 들어온 수정은 flush 시 @Version 검사로 걸러진다.
+     */
+    @Transactional
+    public ResumeResponse updateResume(Long userId, Long resumeId, ResumeUpdateRequest request) {
+        Resume resume = getOwnedResume(userId, resumeId);
+        if (request.version() != null && !request.version().equals(resume.getVersion())) {
+            throw new ApiException(ErrorDefine.CONFLICT);
+        }
+
+        if (request.userName() != null) {
+            resume.setUserName(requireNotBlank(request.userName(), "userName"));
+        }
+        if (request.userAge() != null) {
+            resume.setUserAge(request.userAge());
+        }
+        if (request.birthDate() != null) {
+            resume.setBirthDate(request.birthDate());
+        }
+        if (request.gender() != null) {
+            resume.setGender(request.gender());
+        }
+        if (request.totalCareer() != null) {
+            resume.setTotalCareer(requireNotBlank(request.totalCareer(), "totalCareer"));
+        }
+        if (request.introduce() != null) {
+            resume.setIntroduce(request.introduce());
+        }
+        if (request.introduceDetail() != null) {
+            resume.setIntroduceDetail(request.introduceDetail());
+        }
+        if (request.certificationList() != null) {
+            mergeList(resume.getCertificationTitles(), toCertificationTitles(request.certificationList()));
+        }
+        if (request.careerList() != null) {
+            mergeList(resume.getCareerList(), toCareerList(request.careerList()));
+        }
+        if (request.personalityList() != null) {
+            mergeList(resume.getPersonalityTags(), toPersonalityTags(request.personalityList()));
+        }
+
+        resumeRepository.flush(); // 버전 충돌을 여기서 확인하고, 증가한 version/updatedAt을 응답에 반영
+        resumeCache.evictAfterCommit(resumeId);
         return ResumeResponse.from(resume);
     }
 
+    private String requireNotBlank(String value, String field) {
+        if (value.isBlank()) {
+            throw new ApiException(ErrorDefine.BAD_REQUEST, field + "은(는) 비워둘 수 없습니다.");
+        }
+        return value;
+    }
+
     @Transactional
     public void deleteResume(Long userId, Long resumeId) {
+        Resume resume = getOwnedResume(userId, resumeId);
+
+        resumePdfFileRepository.findByResumeId(resumeId).ifPresent(pdfFile -> {
+            resumePdfFileRepository.delete(pdfFile);
+            pdfStorageService.deleteAfterCommit(pdfFile.getStoredPath());
+        });
+        resumeRepository.delete(resume);
+        resumePdfRenderService.evictAfterCommit(resumeId);
+        resumeCache.evictAfterCommit(resumeId);
+        fileStorageService.release(resume.getProfileImageHash()); // 같은 사진을 쓰는 다른 이력서가 없으면 GC 대상
+    }
+
+    // 이력서 PDF 업로드 (이미 있으면 교체, 기존 파일은 커밋 후 삭제, 롤백되면 새 파일 삭제)
+    @Transactional
+    public ResumePdfResponse uploadPdf(Long userId, Long resumeId, MultipartFile file) {
+        Resume resume = getOwnedResume(userId, resumeId);
+        if (file == null || file.isEmpty()) {
+            throw new ApiException(ErrorDefine.BAD_REQUEST, "업로드할 PDF 파일이 없습니다.");
+        }
+
+        StoredPdf storedPdf = pdfStorageService.store(file);
+        pdfStorageService.deleteOnRollback(storedPdf.relativePath());
+        String fileName = pdfFileName(file.getOriginalFilename());
+
+        // 같은 이력서에 동시에 처음 올리면 둘 다 insert 하다 unique(resume_id) 충돌 → 이력서 행 잠금으로 순서대로 처리
+        // (뒤 요청은 앞 요청 커밋 후 기존 행을 교체)
+        resumeRepository.findByIdForUpdate(resumeId)
+                .orElseThrow(() -> new ApiException(ErrorDefine.RESUME_NOT_FOUND));
+
+        ResumePdfFile pdfFile = resumePdfFileRepository.findByResumeId(resumeId)
+                .map(existing -> {
+                    pdfStorageService.deleteAfterCommit(existing.getStoredPath());
+                    existing.replaceFile(storedPdf, fileName);
+                    return existing;
+                })
+                .orElseGet(() -> resumePdfFileRepository.save(ResumePdfFile.builder()
+                        .resume(resume)
+                        .originalFileName(fileName)
+                        .storedPath(storedPdf.relativePath())
+                        .size(storedPdf.size())
+                        .contentHash(storedPdf.hash())
+                        .build()));
+        return ResumePdfResponse.from(pdfFile);
+    }
+
+    public ResumePdfDownload getPdf(Long userId, Long resumeId) {
+        getOwnedResume(userId, resumeId);
+        ResumePdfFile pdfFile = resumePdfFileRepository.findByResumeId(resumeId)
+                .orElseThrow(() -> new ApiException(ErrorDefine.FILE_NOT_FOUND));
+
+        Path path = pdfStorageService.resolve(pdfFile.getStoredPath());
+        if (!Files.isReadable(path)) {
+            throw new ApiException(ErrorDefine.FILE_NOT_FOUND);
+        }
+        return new ResumePdfDownload(path, pdfFile.getOriginalFileName(), pdfFile.getSize(), pdfFile.getContentHash());
+    }
+
+    // 이력서 조회 + 소유권 검증 (User는 로딩하지 않고 FK 값만 비교)
+    private Resume getOwnedResume(Long userId, Long resumeId) {
         Resume resume = resumeRepository.findById(resumeId)
                 .orElseThrow(() -> new ApiException(ErrorDefine.RESUME_NOT_FOUND));
 
         if (!resume.getUser().getId().equals(userId)) {
             throw new ApiException(ErrorDefine.FORBIDDEN);
         }
+        return resume;
+    }
 
-        resumeRepository.delete(resume);
+    private String pdfFileName(String originalFileName) {
+        if (originalFileName == null || originalFileName.isBlank()) {
+            return "resume.pdf";
+        }
+        // 경로 구분자가 섞여 오는 경우(일부 브라우저/클라이언트) 파일명만 사용
+        String fileName = originalFileName.substring(Math.max(originalFileName.lastIndexOf('/'), originalFileName.lastIndexOf('\\')) + 1);
+        return fileName.isBlank() ? "resume.pdf" : fileName;
     }
 }
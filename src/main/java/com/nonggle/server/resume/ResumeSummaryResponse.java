@@ -0,0 +1,24 @@
+package com.nonggle.server.resume;
+
+import com.nonggle.server.file.ImageVariants;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+// 이력서 목록 화면용 요약 응답 (GET /api/v1/resumes?view=summary)
+public record ResumeSummaryResponse(
+        Long id,
+        String userName,
+        String totalCareer,
+        @Nullable String profileImageUrl,
+        Map<Integer, String> profileImageVariants, // 목록 아바타는 64/256 축소본 사용
+        @Nullable String updatedAt
+) {
+    // JPQL constructor projection용
+    public ResumeSummaryResponse(Long id, String userName, String totalCareer,
+                                 String profileImageUrl, String profileImageHash, boolean profileImageVariantsReady,
+                                 String updatedAt) {
+        this(id, userName, totalCareer, profileImageUrl,
+                ImageVariants.urlsOf(profileImageUrl, profileImageHash, profileImageVariantsReady), updatedAt);
+    }
+}
@@ -0,0 +1,32 @@
+package com.nonggle.server.resume;
+
+import jakarta.validation.Valid;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * 이력서 부분 수정 요청 DTO (PATCH)
+ * - null인 필드는 변경하지 않는다.
+ * - 목록 필드는 전달되면 전체 목록으로 취급하고, 기존 목록과 위치별로 비교해 바뀐 항목만 반영한다.
+ * - version: 조회 시 받은 ResumeResponse.version (생략하면 버전 확인 없이 수정)
+ */
+public record ResumeUpdateRequest(
+        @Nullable String userName,
+        @Nullable String userAge,
+        @Nullable String birthDate,
+        @Nullable String gender,
+
+        @Nullable List<@Valid ResumeCreateRequest.CertificationTag> certificationList,
+        @Nullable List<@Valid ResumeCreateRequest.CareerFormData> careerList,
+
+        @Nullable String totalCareer,
+
+        @Nullable String introduce,
+        @Nullable String introduceDetail,
+
+        @Nullable List<@Valid ResumeCreateRequest.PersonalityTag> personalityList,
+
+        @Nullable Long version
+) {
+}
@@ -1,6 +1,5 @@
 package com.nonggle.server.user;
 import jakarta.persistence.*;
-import java.time.Instant; // Instant import 추가
 
 @Entity
 @Table(name = "users")
@@ -13,10 +12,7 @@ public class User {
     @Column(unique = true, nullable = false)
     private String kakaoId;
 
-    @Column(length = 500) // Adjust length as needed for your refresh token size
-    private String refreshToken;
-
-    private Instant refreshTokenExpiryDate; // refreshToken 만료 시각 필드 추가
+    // RefreshToken은 refresh_tokens 테이블(RefreshToken 엔티티)에서 관리
 
     protected User() {}
 
@@ -24,16 +20,6 @@ public class User {
         this.kakaoId = kakaoId;
     }
 
-    public void updateRefreshToken(String newRefreshToken, Instant expiryDate) {
-        this.refreshToken = newRefreshToken;
-        this.refreshTokenExpiryDate = expiryDate;
-    }
-
-    public void invalidateRefreshToken() {
-        this.refreshToken = null;
-        this.refreshTokenExpiryDate = null;
-    }
-
     public Long getId() {
         return id;
     }
@@ -46,12 +32,4 @@ public class User {
     public String getKakaoId() {
         return kakaoId;
     }
-
-    public String getRefreshToken() {
-        return refreshToken;
-    }
-
-    public Instant getRefreshTokenExpiryDate() {
-        return refreshTokenExpiryDate;
-    }
 }
@@ -0,0 +1,58 @@
+package com.nonggle.server.auth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthControllerTest {
+
+    private AuthService authService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        authService = mock(AuthService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new AuthController(authService))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("body 없는 로그아웃(기존 클라이언트)은 200으로 모든 기기 로그아웃")
+    void logout_withoutBody_logsOutAllDevices() throws Exception {
+        mockMvc.perform(post("/auth/logout"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        verify(authService).logout(1L, null);
+    }
+
+    @Test
+    @DisplayName("body에 refreshToken이 있으면 그 토큰으로 기기 단위 로그아웃")
+    void logout_withRefreshToken_passesToken() throws Exception {
+        mockMvc.perform(post("/auth/logout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"device.refresh.token\"}"))
+                .andExpect(status().isOk());
+
+        verify(authService).logout(1L, "device.refresh.token");
+    }
+}
@@ -2,6 +2,9 @@ package com.nonggle.server.auth;
 
 import com.nonggle.server.auth.KakaoClient.KakaoAuthException;
 import com.nonggle.server.auth.KakaoClient.KakaoUser;
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.common.TokenHasher;
 import com.nonggle.server.user.User;
 import com.nonggle.server.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +36,9 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Mock
     private JwtProvider jwtProvider;
 
@@ -58,8 +64,6 @@ class AuthServiceTest {
                     // Create a new User instance with an ID, mimicking a saved entity
                     User savedUser = new User(userToSave.getKakaoId());
                     savedUser.setId(1L); // Assign a test ID
-                    // Copy other fields if necessary, like refreshToken and expiryDate
-                    savedUser.updateRefreshToken(userToSave.getRefreshToken(), userToSave.getRefreshTokenExpiryDate());
                     return savedUser;
                 }
                 return userToSave; // For existing users, return the same instance
@@ -84,7 +88,6 @@ class AuthServiceTest {
                 .thenReturn("new.refresh.token");
 
         User existingUser = new User(TEST_KAKAO_USER_ID);
-        existingUser.updateRefreshToken("old_refresh_token", Instant.now().plus(1, ChronoUnit.DAYS)); // 기존 리프레시 토큰 설정
         existingUser.setId(1L); // ID를 미리 설정
         
         when(userRepository.findByKakaoId(TEST_KAKAO_USER_ID))
@@ -98,16 +101,17 @@ class AuthServiceTest {
         assertThat(response.accessToken()).isEqualTo(TEST_JWT_TOKEN);
         assertThat(response.refreshToken()).isNotNull(); // 리프레시 토큰이 반환되는지 확인
 
-        // `AuthService`에서 리프레시 토큰을 업데이트하고 저장하므로 save 호출됨
-        verify(userRepository, times(1)).save(any(User.class));
+        // 기존 사용자 행은 다시 쓰지 않고, refresh_tokens에 새 family 행만 저장
+        verify(userRepository, never()).save(any(User.class));
 
-        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository).save(userCaptor.capture());
-        User savedUser = userCaptor.getValue();
+        ArgumentCaptor<RefreshToken> tokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(tokenCaptor.capture());
+        RefreshToken savedToken = tokenCaptor.getValue();
 
-        assertThat(savedUser.getRefreshToken()).isEqualTo(response.refreshToken());
-        assertThat(savedUser.getRefreshTokenExpiryDate()).isNotNull();
-        assertThat(savedUser.getRefreshTokenExpiryDate()).isEqualTo(FIXED_NOW.plus(14, ChronoUnit.DAYS));
+        assertThat(savedToken.getUserId()).isEqualTo(existingUser.getId());
+        assertThat(savedToken.getTokenHash()).isEqualTo(TokenHasher.sha256Hex(response.refreshToken()));
+        assertThat(savedToken.getFamilyId()).isNotBlank();
+        assertThat(savedToken.getExpiresAt()).isEqualTo(FIXED_NOW.plus(14, ChronoUnit.DAYS));
     }
 
     @Test
@@ -133,17 +137,17 @@ class AuthServiceTest {
 
         // Then
         // ID는 userRepository.save가 할당했다고 가정하므로, response에서 직접 가져오거나 캡쳐된 User에서 가져와야 함
-        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository, times(2)).save(userCaptor.capture()); // 초기 저장 및 업데이트 저장
-        User savedUserAfterSecondSave = userCaptor.getValue(); // 마지막으로 save된 User 객체
+        verify(userRepository, times(1)).save(any(User.class)); // 신규 사용자 저장 1회
 
-        assertThat(response.userId()).isEqualTo(savedUserAfterSecondSave.getId());
+        assertThat(response.userId()).isEqualTo(1L);
         assertThat(response.accessToken()).isEqualTo(TEST_JWT_TOKEN);
         assertThat(response.refreshToken()).isNotNull(); // 리프레시 토큰이 반환되는지 확인
 
-        assertThat(savedUserAfterSecondSave.getRefreshToken()).isEqualTo(response.refreshToken());
-        assertThat(savedUserAfterSecondSave.getRefreshTokenExpiryDate()).isNotNull();
-        assertThat(savedUserAfterSecondSave.getRefreshTokenExpiryDate()).isEqualTo(FIXED_NOW.plus(14, ChronoUnit.DAYS));
+        ArgumentCaptor<RefreshToken> tokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(tokenCaptor.capture());
+        assertThat(tokenCaptor.getValue().getUserId()).isEqualTo(1L);
+        assertThat(tokenCaptor.getValue().getTokenHash()).isEqualTo(TokenHasher.sha256Hex(response.refreshToken()));
+        assertThat(tokenCaptor.getValue().getExpiresAt()).isEqualTo(FIXED_NOW.plus(14, ChronoUnit.DAYS));
     }
 
     @Test
@@ -183,22 +187,104 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("로그아웃 성공 - 리프레시 토큰 무효화")
-    void logout_success() {
+    @DisplayName("리프레시 토큰 갱신 성공 - 같은 family 행을 해시 조건부로 갱신")
+    void refreshToken_success_rotatesSingleRow() {
         // Given
-        Long userId = 1L;
-        User user = new User("kakao_123");
-        user.setId(userId);
-        user.updateRefreshToken("refresh_token", Instant.now().plus(14, ChronoUnit.DAYS));
+        String oldRefreshToken = "old.refresh.token";
+        RefreshToken storedToken = new RefreshToken(
+                1L, "family-1", TokenHasher.sha256Hex(oldRefreshToken), FIXED_NOW.plus(1, ChronoUnit.DAYS));
+        when(refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex(oldRefreshToken)))
+                .thenReturn(Optional.of(storedToken));
+        when(jwtProvider.createAccessToken(1L)).thenReturn(TEST_JWT_TOKEN);
+        when(jwtProvider.createRefreshToken(1L)).thenReturn("new.refresh.token");
+        when(refreshTokenRepository.rotate(any(), anyString(), anyString(), any(Instant.class))).thenReturn(1);
+
+        // When
+        LoginResponse response = authService.refreshToken(oldRefreshToken);
+
+        // Then
+        assertThat(response.userId()).isEqualTo(1L);
+        assertThat(response.accessToken()).isEqualTo(TEST_JWT_TOKEN);
+        assertThat(response.refreshToken()).isEqualTo("new.refresh.token");
+        verify(refreshTokenRepository).rotate(
+                storedToken.getId(),
+                TokenHasher.sha256Hex(oldRefreshToken),
+                TokenHasher.sha256Hex("new.refresh.token"),
+                FIXED_NOW.plus(14, ChronoUnit.DAYS));
+        verify(userRepository, never()).save(any(User.class)); // User 행은 갱신하지 않음
+    }
+
+    @Test
+    @DisplayName("저장되지 않은(회전/로그아웃된) 리프레시 토큰은 REFRESH_TOKEN_INVALID")
+    void refreshToken_unknownToken_throwsInvalid() {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        ApiException exception = assertThrows(ApiException.class,
+                () -> authService.refreshToken("unknown.refresh.token"));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.REFRESH_TOKEN_INVALID);
+    }
+
+    @Test
+    @DisplayName("만료된 리프레시 토큰은 REFRESH_TOKEN_EXPIRED")
+    void refreshToken_expiredToken_throwsExpired() {
+        String expiredRefreshToken = "expired.refresh.token";
+        RefreshToken storedToken = new RefreshToken(
+                1L, "family-1", TokenHasher.sha256Hex(expiredRefreshToken), FIXED_NOW.minus(1, ChronoUnit.SECONDS));
+        when(refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex(expiredRefreshToken)))
+                .thenReturn(Optional.of(storedToken));
+
+        ApiException exception = assertThrows(ApiException.class,
+                () -> authService.refreshToken(expiredRefreshToken));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.REFRESH_TOKEN_EXPIRED);
+        verify(refreshTokenRepository, never()).rotate(any(), anyString(), anyString(), any(Instant.class));
+    }
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    @Test
+    @DisplayName("로그아웃 성공 - 요청한 리프레시 토큰의 family만 무효화")
+    void logout_success_deletesOnlyCallerFamily() {
+        // Given
+        Long userId = 1L;
+        String refreshToken = "device.refresh.token";
+        RefreshToken storedToken = new RefreshToken(
+                userId, "family-1", TokenHasher.sha256Hex(refreshToken), FIXED_NOW.plus(1, ChronoUnit.DAYS));
+        when(refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex(refreshToken)))
+                .thenReturn(Optional.of(storedToken));
 
         // When
-        authService.logout(userId);
+        authService.logout(userId, refreshToken);
 
         // Then
-        assertThat(user.getRefreshToken()).isNull();
-        assertThat(user.getRefreshTokenExpiryDate()).isNull();
-        verify(userRepository, times(1)).save(user);
+        verify(refreshTokenRepository).deleteFamily("family-1", userId);
+        verify(refreshTokenRepository, never()).deleteAllByUserId(any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 이미 회전/정리된 토큰이면 아무것도 지우지 않음")
+    void logout_unknownToken_noop() {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        authService.logout(1L, "unknown.refresh.token");
+
+        verify(refreshTokenRepository, never()).deleteFamily(anyString(), any());
+        verify(refreshTokenRepository, never()).deleteAllByUserId(any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 리프레시 토큰이 없으면 기존처럼 모든 기기 로그아웃")
+    void logout_missingToken_logsOutAllDevices() {
+        authService.logout(1L, null);
+
+        verify(refreshTokenRepository).deleteAllByUserId(1L);
+        verify(refreshTokenRepository, never()).findByTokenHash(anyString());
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 - 사용자의 리프레시 토큰 전체 무효화")
+    void logoutAll_success() {
+        authService.logoutAll(1L);
+
+        verify(refreshTokenRepository, times(1)).deleteAllByUserId(1L);
     }
 }
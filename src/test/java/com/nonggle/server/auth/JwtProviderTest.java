@@ -0,0 +1,55 @@
+package com.nonggle.server.auth;
+
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-provider-must-be-long-enough";
+
+    @Test
+    @DisplayName("같은 AccessToken 재검증 시 캐시에서 userId를 반환")
+    void getUserId_sameToken_hitsCache() {
+        JwtProvider jwtProvider = new JwtProvider(SECRET, 60_000, 120_000, 100, new SimpleMeterRegistry());
+        String token = jwtProvider.createAccessToken(7L);
+
+        assertThat(jwtProvider.getUserId(token)).isEqualTo(7L);
+        assertThat(jwtProvider.getUserId(token)).isEqualTo(7L);
+        assertThat(jwtProvider.getUserId(token)).isEqualTo(7L);
+
+        assertThat(jwtProvider.getVerifiedTokenCacheStats().missCount()).isEqualTo(1);
+        assertThat(jwtProvider.getVerifiedTokenCacheStats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료된 AccessToken은 캐시되지 않고 TOKEN_EXPIRED 예외 발생")
+    void getUserId_expiredToken_throwsTokenExpired() {
+        JwtProvider jwtProvider = new JwtProvider(SECRET, -1_000, 120_000, 100, new SimpleMeterRegistry());
+        String token = jwtProvider.createAccessToken(7L);
+
+        ApiException first = assertThrows(ApiException.class, () -> jwtProvider.getUserId(token));
+        ApiException second = assertThrows(ApiException.class, () -> jwtProvider.getUserId(token));
+
+        assertThat(first.getError()).isEqualTo(ErrorDefine.TOKEN_EXPIRED);
+        assertThat(second.getError()).isEqualTo(ErrorDefine.TOKEN_EXPIRED);
+        assertThat(jwtProvider.getVerifiedTokenCacheStats().hitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 AccessToken은 TOKEN_INVALID 예외 발생")
+    void getUserId_foreignSignature_throwsTokenInvalid() {
+        JwtProvider jwtProvider = new JwtProvider(SECRET, 60_000, 120_000, 100, new SimpleMeterRegistry());
+        JwtProvider otherProvider = new JwtProvider(SECRET + "-other", 60_000, 120_000, 100, new SimpleMeterRegistry());
+        String token = otherProvider.createAccessToken(7L);
+
+        ApiException exception = assertThrows(ApiException.class, () -> jwtProvider.getUserId(token));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.TOKEN_INVALID);
+    }
+}
@@ -0,0 +1,257 @@
+package com.nonggle.server.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nonggle.server.auth.KakaoClient.KakaoAuthError;
+import com.nonggle.server.auth.KakaoClient.KakaoAuthException;
+import com.nonggle.server.auth.KakaoClient.KakaoUser;
+import com.nonggle.server.common.config.AppConfig;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 로컬 MockWebServer를 카카오 API 대역으로 사용
+class KakaoClientTest {
+
+    private MockWebServer kakaoServer;
+    private KakaoClient kakaoClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        kakaoServer = new MockWebServer();
+        kakaoServer.start();
+        kakaoClient = kakaoClient(
+                new AppConfig().kakaoCircuitBreaker(50, 20, 10, 10_000, 3, 2_000),
+                new AppConfig().kakaoBulkhead(32)
+        );
+    }
+
+    private KakaoClient kakaoClient(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .readTimeout(1, TimeUnit.SECONDS)
+                .build();
+        return new KakaoClient(
+                httpClient,
+                new ObjectMapper(),
+                circuitBreaker,
+                bulkhead,
+                kakaoServer.url("/v2/user/me").toString(),
+                30,
+                100,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        kakaoServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("중첩 객체를 건너뛰고 최상위 id를 읽어 KakaoUser 반환")
+    void getUserInfo_success() throws InterruptedException {
+        kakaoServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("""
+                        {"properties":{"id":"nested","nickname":"농글"},"id":12345,"kakao_account":{"email":"a@b.c"}}
+                        """));
+
+        KakaoUser kakaoUser = kakaoClient.getUserInfo("kakao_token");
+
+        assertThat(kakaoUser.kakaoId()).isEqualTo("12345");
+        RecordedRequest recordedRequest = kakaoServer.takeRequest();
+        assertThat(recordedRequest.getHeader("Authorization")).isEqualTo("Bearer kakao_token");
+    }
+
+    @Test
+    @DisplayName("비동기 조회는 카카오 응답 후 future를 완료")
+    void getUserInfoAsync_success() throws Exception {
+        kakaoServer.enqueue(new MockResponse().setBody("{\"id\":777}"));
+
+        CompletableFuture<KakaoUser> future = kakaoClient.getUserInfoAsync("kakao_token");
+
+        assertThat(future.get(2, TimeUnit.SECONDS).kakaoId()).isEqualTo("777");
+    }
+
+    @Test
+    @DisplayName("같은 카카오 토큰 재시도는 캐시에서 응답")
+    void getUserInfo_sameToken_servedFromCache() {
+        kakaoServer.enqueue(new MockResponse().setBody("{\"id\":12345}"));
+
+        KakaoUser first = kakaoClient.getUserInfo("kakao_token");
+        KakaoUser second = kakaoClient.getUserInfo("kakao_token");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(kakaoServer.getRequestCount()).isEqualTo(1);
+        assertThat(kakaoClient.getOutboundCallCount()).isEqualTo(1);
+        assertThat(kakaoClient.getUserCacheStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 동시 로그인은 하나의 카카오 호출을 공유")
+    void getUserInfoAsync_concurrentSameToken_singleFlight() throws Exception {
+        kakaoServer.enqueue(new MockResponse()
+                .setBody("{\"id\":12345}")
+                .setHeadersDelay(200, TimeUnit.MILLISECONDS));
+
+        List<CompletableFuture<KakaoUser>> futures = List.of(
+                kakaoClient.getUserInfoAsync("kakao_token"),
+                kakaoClient.getUserInfoAsync("kakao_token"),
+                kakaoClient.getUserInfoAsync("kakao_token")
+        );
+
+        for (CompletableFuture<KakaoUser> future : futures) {
+            assertThat(future.get(2, TimeUnit.SECONDS).kakaoId()).isEqualTo("12345");
+        }
+        assertThat(kakaoServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카카오 401 응답은 UNAUTHORIZED로 변환")
+    void getUserInfo_unauthorized() {
+        kakaoServer.enqueue(new MockResponse().setResponseCode(401).setBody("{\"code\":-401}"));
+
+        KakaoAuthException exception = assertThrows(KakaoAuthException.class,
+                () -> kakaoClient.getUserInfo("expired_token"));
+
+        assertThat(exception.getError()).isEqualTo(KakaoAuthError.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("카카오 5xx 응답은 KAKAO_SERVER_ERROR로 변환")
+    void getUserInfo_serverError() {
+        kakaoServer.enqueue(new MockResponse().setResponseCode(503));
+
+        KakaoAuthException exception = assertThrows(KakaoAuthException.class,
+                () -> kakaoClient.getUserInfo("kakao_token"));
+
+        assertThat(exception.getError()).isEqualTo(KakaoAuthError.KAKAO_SERVER_ERROR);
+    }
+
+    @Test
+    @DisplayName("id 필드가 없는 응답은 INVALID_RESPONSE")
+    void getUserInfo_missingId() {
+        kakaoServer.enqueue(new MockResponse().setBody("{\"properties\":{\"id\":1}}"));
+
+        KakaoAuthException exception = assertThrows(KakaoAuthException.class,
+                () -> kakaoClient.getUserInfo("kakao_token"));
+
+        assertThat(exception.getError()).isEqualTo(KakaoAuthError.INVALID_RESPONSE);
+    }
+
+    @Test
+    @DisplayName("응답 지연으로 read timeout 발생 시 IO_ERROR")
+    void getUserInfoAsync_timeout() {
+        kakaoServer.enqueue(new MockResponse()
+                .setBody("{\"id\":1}")
+                .setHeadersDelay(3, TimeUnit.SECONDS));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> kakaoClient.getUserInfoAsync("kakao_token").get(5, TimeUnit.SECONDS));
+
+        assertThat(exception.getCause()).isInstanceOf(KakaoAuthException.class);
+        assertThat(((KakaoAuthException) exception.getCause()).getError()).isEqualTo(KakaoAuthError.IO_ERROR);
+    }
+
+    @Test
+    @DisplayName("accessToken 누락 시 HTTP 호출 없이 INVALID_INPUT")
+    void getUserInfo_blankToken() {
+        KakaoAuthException exception = assertThrows(KakaoAuthException.class,
+                () -> kakaoClient.getUserInfo(" "));
+
+        assertThat(exception.getError()).isEqualTo(KakaoAuthError.INVALID_INPUT);
+        assertThat(kakaoServer.getRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("카카오 5xx가 이어지면 circuit이 열리고 이후 요청은 호출 없이 즉시 실패")
+    void circuitBreaker_opensOnServerErrors() {
+        kakaoClient = kakaoClient(
+                new AppConfig().kakaoCircuitBreaker(50, 4, 4, 60_000, 1, 2_000),
+                new AppConfig().kakaoBulkhead(32)
+        );
+        for (int i = 0; i < 4; i++) {
+            kakaoServer.enqueue(new MockResponse().setResponseCode(500));
+        }
+        for (int i = 0; i < 4; i++) {
+            String token = "token_" + i;
+            assertThrows(KakaoAuthException.class, () -> kakaoClient.getUserInfo(token));
+        }
+
+        KakaoAuthException exception = assertThrows(KakaoAuthException.class,
+                () -> kakaoClient.getUserInfo("token_after_open"));
+
+        assertThat(exception.getError()).isEqualTo(KakaoAuthError.KAKAO_SERVER_ERROR);
+        assertThat(kakaoServer.getRequestCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("응답 지연(slow call)이 이어져도 circuit이 열림")
+    void circuitBreaker_opensOnSlowCalls() {
+        CircuitBreaker circuitBreaker = new AppConfig().kakaoCircuitBreaker(50, 2, 2, 60_000, 1, 100);
+        kakaoClient = kakaoClient(circuitBreaker, new AppConfig().kakaoBulkhead(32));
+        for (int i = 0; i < 2; i++) {
+            kakaoServer.enqueue(new MockResponse()
+                    .setBody("{\"id\":" + i + "}")
+                    .setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        }
+
+        kakaoClient.getUserInfo("slow_token_0");
+        kakaoClient.getUserInfo("slow_token_1");
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("사용자 토큰 오류(401)는 카카오 장애로 집계하지 않음")
+    void circuitBreaker_ignoresUserTokenErrors() {
+        CircuitBreaker circuitBreaker = new AppConfig().kakaoCircuitBreaker(50, 4, 4, 60_000, 1, 2_000);
+        kakaoClient = kakaoClient(circuitBreaker, new AppConfig().kakaoBulkhead(32));
+        for (int i = 0; i < 4; i++) {
+            kakaoServer.enqueue(new MockResponse().setResponseCode(401));
+        }
+
+        for (int i = 0; i < 4; i++) {
+            String token = "expired_" + i;
+            assertThrows(KakaoAuthException.class, () -> kakaoClient.getUserInfo(token));
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘는 요청은 bulkhead에서 즉시 거절")
+    void bulkhead_rejectsWhenFull() throws Exception {
+        kakaoClient = kakaoClient(
+                new AppConfig().kakaoCircuitBreaker(50, 20, 10, 10_000, 3, 2_000),
+                new AppConfig().kakaoBulkhead(1)
+        );
+        kakaoServer.enqueue(new MockResponse()
+                .setBody("{\"id\":1}")
+                .setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+        CompletableFuture<KakaoUser> slowCall = kakaoClient.getUserInfoAsync("slow_token");
+        KakaoAuthException exception = assertThrows(KakaoAuthException.class,
+                () -> kakaoClient.getUserInfo("other_token"));
+
+        assertThat(exception.getError()).isEqualTo(KakaoAuthError.KAKAO_SERVER_ERROR);
+        assertThat(slowCall.get(2, TimeUnit.SECONDS).kakaoId()).isEqualTo("1");
+        assertThat(kakaoServer.getRequestCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,30 @@
+package com.nonggle.server.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicPathsTest {
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/auth/kakao", "/auth/token/refresh", "/hello", "/health",
+            "/h2-console", "/h2-console/", "/h2-console/login.do",
+            "/uploads", "/uploads/ab/cd/profile.jpg",
+            "/auth/logout", "/auth/kakao/extra", "/uploadsX/a.jpg", "/api/v1/resumes", "/api/v1/resumes/1", "/"
+    })
+    @DisplayName("컴파일된 matcher는 기존 AntPathMatcher와 같은 결과를 반환")
+    void matches_sameAsAntPathMatcher(String path) {
+        boolean expected = Arrays.stream(PublicPaths.PATTERNS)
+                .anyMatch(pattern -> antPathMatcher.match(pattern, path));
+
+        assertThat(PublicPaths.matches(path)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,58 @@
+package com.nonggle.server.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("미리 직렬화한 오류 본문은 ObjectMapper로 직렬화한 ApiResponse.fail과 같음")
+    void write_sameAsObjectMapper() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ErrorResponseWriter(objectMapper, meterRegistry).write(response, ErrorDefine.TOKEN_EXPIRED);
+
+        ErrorDefine error = ErrorDefine.TOKEN_EXPIRED;
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getContentAsByteArray())
+                .isEqualTo(objectMapper.writeValueAsBytes(ApiResponse.fail(error.getCode(), error.getMessage())));
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("필터/Security 단계 오류 응답도 api.errors에 GlobalExceptionHandler와 같은 태그로 집계")
+    void write_countsApiErrors() throws Exception {
+        ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper, meterRegistry);
+
+        writer.write(new MockHttpServletResponse(), ErrorDefine.UNAUTHORIZED);
+        writer.write(new MockHttpServletResponse(), ErrorDefine.UNAUTHORIZED);
+        writer.write(new MockHttpServletResponse(), ErrorDefine.FORBIDDEN);
+
+        assertThat(meterRegistry.get("api.errors").tags("error", "UNAUTHORIZED", "status", "401").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("api.errors").tags("error", "FORBIDDEN", "status", "403").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예상된 오류용 ApiException은 스택 트레이스가 없고 같은 인스턴스를 재사용")
+    void expectedException_isStackless() {
+        ApiException exception = ApiException.expected(ErrorDefine.TOKEN_EXPIRED);
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.TOKEN_EXPIRED);
+        assertThat(exception.getMessage()).isEqualTo(ErrorDefine.TOKEN_EXPIRED.getMessage());
+        assertThat(exception.getCustomMessage()).isNull();
+        assertThat(ApiException.expected(ErrorDefine.TOKEN_EXPIRED)).isSameAs(exception);
+        assertThat(new ApiException(ErrorDefine.TOKEN_EXPIRED).getStackTrace()).isNotEmpty();
+    }
+}
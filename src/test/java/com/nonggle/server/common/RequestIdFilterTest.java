@@ -0,0 +1,47 @@
+package com.nonggle.server.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestIdFilterTest {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @Test
+    @DisplayName("요청 처리 중에는 MDC에 requestId가 있고 응답 헤더로 돌려주며, 끝나면 제거")
+    void doFilter_generatesRequestId() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/resumes"), response,
+                (req, res) -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+        assertThat(seen.get()).isNotBlank();
+        assertThat(response.getHeader(RequestIdFilter.HEADER)).isEqualTo(seen.get());
+        assertThat(MDC.get(RequestIdFilter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("전달받은 X-Request-Id는 형식이 맞으면 그대로, 아니면 새로 발급")
+    void doFilter_reusesValidRequestId() throws Exception {
+        MockHttpServletRequest valid = new MockHttpServletRequest("GET", "/api/v1/resumes");
+        valid.addHeader(RequestIdFilter.HEADER, "gateway-123");
+        MockHttpServletResponse validResponse = new MockHttpServletResponse();
+        filter.doFilter(valid, validResponse, (req, res) -> { });
+
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/api/v1/resumes");
+        invalid.addHeader(RequestIdFilter.HEADER, "bad id\n{injected}");
+        MockHttpServletResponse invalidResponse = new MockHttpServletResponse();
+        filter.doFilter(invalid, invalidResponse, (req, res) -> { });
+
+        assertThat(validResponse.getHeader(RequestIdFilter.HEADER)).isEqualTo("gateway-123");
+        assertThat(invalidResponse.getHeader(RequestIdFilter.HEADER)).matches("[0-9a-f]+");
+    }
+}
@@ -0,0 +1,151 @@
+package com.nonggle.server.common.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringJUnitWebConfig(WebConfigTest.TestConfig.class)
+class WebConfigTest {
+
+    private static final Path UPLOAD_DIR = createUploadDir();
+    private static final String IMAGE = "ab/cd/abcd" + "0".repeat(60) + ".jpg";
+    private static final String SVG = "ab/cd/abcd" + "1".repeat(60) + ".svg";
+    private static final int IMAGE_SIZE = 256 * 1024;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("file.upload-dir", UPLOAD_DIR::toString);
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        byte[] image = new byte[IMAGE_SIZE];
+        new Random(42).nextBytes(image);
+        Files.createDirectories(UPLOAD_DIR.resolve("ab/cd"));
+        Files.write(UPLOAD_DIR.resolve(IMAGE), image);
+
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"></svg>".repeat(100).getBytes();
+        Files.write(UPLOAD_DIR.resolve(SVG), svg);
+        Files.write(UPLOAD_DIR.resolve(SVG + ".gz"), gzip(svg));
+    }
+
+    @Test
+    @DisplayName("업로드 파일은 immutable 캐시 헤더와 파일명 기반 strong ETag로 응답")
+    void uploads_cacheHeaders() throws Exception {
+        MvcResult result = mockMvc.perform(get("/uploads/" + IMAGE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abcd" + "0".repeat(60) + ".jpg\""))
+                .andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL))
+                .contains("max-age=31536000", "public", "immutable");
+        assertThat(result.getResponse().getContentAsByteArray()).hasSize(IMAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 재검증은 본문 없이 304")
+    void uploads_revalidation_transfersNoBody() throws Exception {
+        MvcResult first = mockMvc.perform(get("/uploads/" + IMAGE)).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult revalidation = mockMvc.perform(get("/uploads/" + IMAGE).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        assertThat(first.getResponse().getContentAsByteArray()).hasSize(IMAGE_SIZE);
+        assertThat(revalidation.getResponse().getContentAsByteArray()).isEmpty(); // 재검증 전송량: 256KB → 0B
+    }
+
+    @Test
+    @DisplayName("Range 요청은 요청한 구간만 206으로 응답")
+    void uploads_range() throws Exception {
+        MvcResult result = mockMvc.perform(get("/uploads/" + IMAGE).header(HttpHeaders.RANGE, "bytes=0-1023"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-1023/" + IMAGE_SIZE))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray())
+                .isEqualTo(Arrays.copyOf(Files.readAllBytes(UPLOAD_DIR.resolve(IMAGE)), 1024));
+    }
+
+    @Test
+    @DisplayName("미리 압축된 파일이 있으면 Accept-Encoding에 맞춰 제공")
+    void uploads_precompressed() throws Exception {
+        MvcResult result = mockMvc.perform(get("/uploads/" + SVG).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray())
+                .isEqualTo(Files.readAllBytes(UPLOAD_DIR.resolve(SVG + ".gz")));
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(
+                mockMvc.perform(get("/uploads/" + SVG)).andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("GC로 삭제된 파일은 이전에 조회됐더라도 404")
+    void uploads_deletedFile_notFound() throws Exception {
+        String deleted = "ab/cd/abcd" + "2".repeat(60) + ".jpg";
+        Files.write(UPLOAD_DIR.resolve(deleted), new byte[]{1, 2, 3});
+        mockMvc.perform(get("/uploads/" + deleted)).andExpect(status().isOk());
+
+        Files.delete(UPLOAD_DIR.resolve(deleted));
+
+        mockMvc.perform(get("/uploads/" + deleted)).andExpect(status().isNotFound());
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static Path createUploadDir() {
+        try {
+            return Files.createTempDirectory("nonggle-uploads-test");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import(WebConfig.class)
+    static class TestConfig {
+    }
+}
@@ -0,0 +1,199 @@
+package com.nonggle.server.file;
+
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileStorageServiceTest {
+
+    private static final byte[] PNG = {
+            (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13, 'I', 'H', 'D', 'R', 1, 2, 3
+    };
+    private static final Instant FIXED_NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @TempDir
+    Path uploadDir;
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    @Mock
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService(
+                "http://localhost:8080/", uploadDir.toString(), 1024,
+                fileBlobRepository, imageVariantGenerator, transactionManager, Clock.fixed(FIXED_NOW, ZoneOffset.UTC), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("새 내용은 해시 기반 경로에 저장되고 참조 수 0으로 등록한 뒤 참조 수 증가")
+    void storeFile_newContent_storedUnderHash() {
+        when(fileBlobRepository.incrementRefCount(anyString())).thenReturn(0);
+
+        StoredFile storedFile = fileStorageService.storeFile(image(PNG));
+
+        String hash = storedFile.hash();
+        String relativePath = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ".png";
+        assertThat(storedFile.url()).isEqualTo("http://localhost:8080/uploads/" + relativePath);
+        assertThat(uploadDir.resolve(relativePath)).exists().hasBinaryContent(PNG);
+
+        ArgumentCaptor<FileBlob> blobCaptor = ArgumentCaptor.forClass(FileBlob.class);
+        verify(fileBlobRepository).saveAndFlush(blobCaptor.capture());
+        assertThat(blobCaptor.getValue().isNew()).isTrue();
+        assertThat(blobCaptor.getValue().getRefCount()).isZero();
+        assertThat(blobCaptor.getValue().getReleasedAt()).isEqualTo(FIXED_NOW);
+        assertThat(blobCaptor.getValue().getSize()).isEqualTo(PNG.length);
+        verify(fileBlobRepository, times(2)).incrementRefCount(hash);
+        verify(imageVariantGenerator).generateAsync(uploadDir.resolve(relativePath), hash, "png");
+    }
+
+    @Test
+    @DisplayName("이미 저장된 내용은 다시 쓰지 않고 참조 수만 증가")
+    void storeFile_knownContent_onlyIncrementsRefCount() throws Exception {
+        when(fileBlobRepository.incrementRefCount(anyString())).thenReturn(0);
+        StoredFile first = fileStorageService.storeFile(image(PNG));
+        Path storedPath = fileStorageService.resolveStoredPath(first.url().substring(first.url().indexOf("/uploads/") + 9));
+        Instant firstWrite = Files.getLastModifiedTime(storedPath).toInstant();
+
+        when(fileBlobRepository.incrementRefCount(first.hash())).thenReturn(1);
+        StoredFile second = fileStorageService.storeFile(image(PNG));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.getLastModifiedTime(storedPath).toInstant()).isEqualTo(firstWrite);
+        verify(fileBlobRepository, times(1)).saveAndFlush(any(FileBlob.class));
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 내용을 동시에 처음 올려 등록이 충돌해도 참조 수만 증가하고 저장 성공")
+    void storeFile_concurrentFirstUpload_incrementsExistingBlob() {
+        when(fileBlobRepository.incrementRefCount(anyString())).thenReturn(0);
+        when(fileBlobRepository.saveAndFlush(any(FileBlob.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        StoredFile storedFile = fileStorageService.storeFile(image(PNG));
+
+        verify(fileBlobRepository, times(2)).incrementRefCount(storedFile.hash());
+        assertThat(fileStorageService.findStoredFile(storedFile.url())).isPresent();
+    }
+
+    @Test
+    @DisplayName("업로드 트랜잭션이 롤백되면 새로 옮긴 파일과 참조 없는 행 삭제")
+    void storeFile_rolledBack_deletesNewBlob() {
+        when(fileBlobRepository.incrementRefCount(anyString())).thenReturn(0);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            StoredFile storedFile = fileStorageService.storeFile(image(PNG));
+            Path storedPath = fileStorageService.findStoredFile(storedFile.url()).orElseThrow();
+            FileBlob blob = new FileBlob(storedFile.hash(), uploadDir.relativize(storedPath).toString(), PNG.length, FIXED_NOW);
+            when(fileBlobRepository.findByHashAndRefCount(storedFile.hash(), 0)).thenReturn(Optional.of(blob));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            assertThat(storedPath).doesNotExist();
+            verify(fileBlobRepository).delete(blob);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 내용은 기록 전에 거절")
+    void storeFile_notAnImage_rejected() throws Exception {
+        ApiException exception = assertThrows(ApiException.class,
+                () -> fileStorageService.storeFile(image("<html>not an image</html>".getBytes())));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.BAD_REQUEST);
+        assertThat(tempFiles()).isEmpty();
+        verifyNoInteractions(fileBlobRepository);
+    }
+
+    @Test
+    @DisplayName("ftyp 컨테이너는 HEIF major brand만 heic로 저장하고 mp4/mov는 거절")
+    void storeFile_ftypBrand_onlyHeifAccepted() throws Exception {
+        when(fileBlobRepository.incrementRefCount(anyString())).thenReturn(0);
+
+        StoredFile heic = fileStorageService.storeFile(image(ftyp("heic")));
+        assertThat(heic.url()).endsWith(".heic");
+
+        for (String brand : List.of("isom", "mp42", "qt  ")) {
+            ApiException exception = assertThrows(ApiException.class, () -> fileStorageService.storeFile(image(ftyp(brand))));
+            assertThat(exception.getError()).isEqualTo(ErrorDefine.BAD_REQUEST);
+        }
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("크기 제한을 넘는 업로드는 거절")
+    void storeFile_oversize_rejected() throws Exception {
+        byte[] large = new byte[2048];
+        System.arraycopy(PNG, 0, large, 0, PNG.length);
+
+        ApiException exception = assertThrows(ApiException.class,
+                () -> fileStorageService.storeFile(image(large)));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.BAD_REQUEST);
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("참조 해제 시 참조 수 감소")
+    void release_decrementsRefCount() {
+        fileStorageService.release("abc");
+
+        verify(fileBlobRepository).decrementRefCount("abc", FIXED_NOW);
+    }
+
+    // ISO BMFF 파일 앞부분: box size(4) + "ftyp" + major brand(4) + minor version(4)
+    private static byte[] ftyp(String majorBrand) {
+        return ("\0\0\0\u0018ftyp" + majorBrand + "\0\0\0\0mif1heic").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private MockMultipartFile image(byte[] content) {
+        return new MockMultipartFile("file", "profile.png", "image/png", content);
+    }
+
+    private List<Path> tempFiles() throws Exception {
+        try (Stream<Path> files = Files.list(uploadDir.resolve(".tmp"))) {
+            return files.toList();
+        }
+    }
+}
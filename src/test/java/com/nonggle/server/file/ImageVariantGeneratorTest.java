@@ -0,0 +1,126 @@
+package com.nonggle.server.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageVariantGeneratorTest {
+
+    private static final String HASH = "ab" + "1".repeat(62);
+
+    @TempDir
+    Path dir;
+
+    private final FileBlobRepository fileBlobRepository = mock(FileBlobRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    @Test
+    @DisplayName("원본 비율을 유지한 64/256/1024 JPEG 축소본 생성 후 생성 완료 표시")
+    void generate_createsBoundedVariants() throws IOException {
+        Path original = writePng(2000, 1000);
+        when(fileBlobRepository.markVariantsReady(HASH)).thenReturn(1);
+
+        new ImageVariantGenerator(Runnable::run, fileBlobRepository, eventPublisher).generateAsync(original, HASH, "png");
+
+        assertSize(ImageVariants.fileName(HASH, 1024), 1024, 512);
+        assertSize(ImageVariants.fileName(HASH, 256), 256, 128);
+        assertSize(ImageVariants.fileName(HASH, 64), 64, 32);
+        assertThat(Files.size(dir.resolve(ImageVariants.fileName(HASH, 64))))
+                .isLessThan(Files.size(dir.resolve(ImageVariants.fileName(HASH, 1024))));
+        verify(fileBlobRepository).markVariantsReady(HASH);
+        verify(eventPublisher).publishEvent(new ImageVariantsReadyEvent(HASH));
+    }
+
+    @Test
+    @DisplayName("이미 생성 완료로 표시된 내용이면 이벤트를 다시 발행하지 않음")
+    void generate_alreadyReady_noEvent() throws IOException {
+        Path original = writePng(100, 50);
+        new ImageVariantGenerator(Runnable::run, fileBlobRepository, eventPublisher).generateAsync(original, HASH, "png");
+
+        verify(fileBlobRepository).markVariantsReady(HASH);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 축소본은 확대하지 않음")
+    void generate_doesNotUpscale() throws IOException {
+        Path original = writePng(100, 50);
+
+        new ImageVariantGenerator(Runnable::run, fileBlobRepository, eventPublisher).generateAsync(original, HASH, "png");
+
+        assertSize(ImageVariants.fileName(HASH, 1024), 100, 50);
+        assertSize(ImageVariants.fileName(HASH, 64), 64, 32);
+    }
+
+    @Test
+    @DisplayName("JDK가 디코딩할 수 없는 형식은 작업을 제출하지 않음")
+    void generateAsync_undecodableFormat_skipped() throws IOException {
+        List<Runnable> submitted = new ArrayList<>();
+
+        new ImageVariantGenerator(submitted::add, fileBlobRepository, eventPublisher).generateAsync(dir.resolve(HASH + ".webp"), HASH, "webp");
+
+        assertThat(submitted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("깨진 이미지는 축소본 없이 넘어가고 생성 완료로 표시하지 않음")
+    void generate_corruptImage_noVariants() throws IOException {
+        Path original = Files.write(dir.resolve(HASH + ".png"), new byte[]{(byte) 0x89, 'P', 'N', 'G', 1, 2, 3});
+
+        new ImageVariantGenerator(Runnable::run, fileBlobRepository, eventPublisher).generateAsync(original, HASH, "png");
+
+        assertThat(Files.exists(dir.resolve(ImageVariants.fileName(HASH, 64)))).isFalse();
+        verify(fileBlobRepository, never()).markVariantsReady(anyString());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("해시 기반 원본 URL에서 축소본 URL 계산 (생성 완료 전에는 빈 Map)")
+    void urlsOf() {
+        String original = "http://localhost:8080/uploads/ab/11/" + HASH + ".jpg";
+
+        assertThat(ImageVariants.urlsOf(original, HASH, true)).containsExactly(
+                Map.entry(64, "http://localhost:8080/uploads/ab/11/" + HASH + "_64.jpg"),
+                Map.entry(256, "http://localhost:8080/uploads/ab/11/" + HASH + "_256.jpg"),
+                Map.entry(1024, "http://localhost:8080/uploads/ab/11/" + HASH + "_1024.jpg"));
+        assertThat(ImageVariants.urlsOf(original, HASH, false)).isEmpty();
+        assertThat(ImageVariants.urlsOf("http://localhost:8080/uploads/ab/11/" + HASH + ".heic", HASH, true)).isEmpty();
+        assertThat(ImageVariants.urlsOf("http://localhost:8080/uploads/legacy.jpg", null, true)).isEmpty();
+    }
+
+    private Path writePng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, 0xFF000000 | (x * 255 / width) << 16 | (y * 255 / height) << 8);
+            }
+        }
+        Path original = dir.resolve(HASH + ".png");
+        ImageIO.write(image, "png", original.toFile());
+        return original;
+    }
+
+    private void assertSize(String fileName, int width, int height) throws IOException {
+        BufferedImage variant = ImageIO.read(dir.resolve(fileName).toFile());
+        assertThat(variant.getWidth()).isEqualTo(width);
+        assertThat(variant.getHeight()).isEqualTo(height);
+    }
+}
@@ -0,0 +1,59 @@
+package com.nonggle.server.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PdfStorageServiceTest {
+
+    private static final byte[] PDF = "%PDF-1.7\n1 0 obj\n<<>>\nendobj\n".getBytes();
+
+    @TempDir
+    Path pdfDir;
+
+    private PdfStorageService pdfStorageService;
+
+    @BeforeEach
+    void setUp() {
+        pdfStorageService = new PdfStorageService(pdfDir.toString(), 1024);
+    }
+
+    @Test
+    @DisplayName("업로드 트랜잭션이 롤백되면 새로 저장한 PDF 삭제")
+    void deleteOnRollback_rolledBack_deletesFile() {
+        Path stored = storeAndComplete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(stored).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("커밋되면 새로 저장한 PDF 유지")
+    void deleteOnRollback_committed_keepsFile() {
+        Path stored = storeAndComplete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(stored).exists().hasBinaryContent(PDF);
+    }
+
+    private Path storeAndComplete(int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            StoredPdf storedPdf = pdfStorageService.store(new MockMultipartFile("file", "resume.pdf", "application/pdf", PDF));
+            pdfStorageService.deleteOnRollback(storedPdf.relativePath());
+            Path stored = pdfStorageService.resolve(storedPdf.relativePath());
+            assertThat(stored).exists();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+            return stored;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.nonggle.server.file;
+
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingFileWriterTest {
+
+    private static final Function<byte[], String> BIN_DETECTOR =
+            header -> header.length >= 3 && header[0] == 'B' && header[1] == 'I' && header[2] == 'N' ? "bin" : null;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("버퍼 크기를 넘는 내용도 그대로 기록하고 SHA-256/크기/확장자 반환")
+    void write_returnsHashAndSize() throws Exception {
+        byte[] content = content(200 * 1024);
+        Path tempFile = dir.resolve("upload.tmp");
+
+        StreamingFileWriter.Result result = StreamingFileWriter.write(
+                new ByteArrayInputStream(content), tempFile, content.length, BIN_DETECTOR, "invalid");
+
+        assertThat(result.tempFile()).isEqualTo(tempFile);
+        assertThat(result.size()).isEqualTo(content.length);
+        assertThat(result.extension()).isEqualTo("bin");
+        assertThat(result.contentHash())
+                .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+        assertThat(tempFile).hasBinaryContent(content);
+    }
+
+    @Test
+    @DisplayName("형식이 다르면 기록 전에 거절하고 임시 파일 삭제")
+    void write_badMagic_rejectedAndCleanedUp() {
+        byte[] content = "<html>not a bin</html>".getBytes();
+        Path tempFile = dir.resolve("upload.tmp");
+
+        ApiException exception = assertThrows(ApiException.class, () -> StreamingFileWriter.write(
+                new ByteArrayInputStream(content), tempFile, 1024, BIN_DETECTOR, "invalid"));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.BAD_REQUEST);
+        assertThat(exception.getMessage()).isEqualTo("invalid");
+        assertThat(tempFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("읽는 도중 크기 제한을 넘으면 중단하고 임시 파일 삭제")
+    void write_oversize_abortedAndCleanedUp() {
+        byte[] content = content(200 * 1024);
+        Path tempFile = dir.resolve("upload.tmp");
+
+        ApiException exception = assertThrows(ApiException.class, () -> StreamingFileWriter.write(
+                new ByteArrayInputStream(content), tempFile, 100 * 1024, BIN_DETECTOR, "invalid"));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.BAD_REQUEST);
+        assertThat(tempFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("앞부분만으로 크기 제한을 넘어도 거절")
+    void write_oversizeHeader_rejected() {
+        byte[] content = content(StreamingFileWriter.HEADER_SIZE);
+        Path tempFile = dir.resolve("upload.tmp");
+
+        assertThrows(ApiException.class, () -> StreamingFileWriter.write(
+                new ByteArrayInputStream(content), tempFile, StreamingFileWriter.HEADER_SIZE - 1, BIN_DETECTOR, "invalid"));
+
+        assertThat(tempFile).doesNotExist();
+    }
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        new Random(42).nextBytes(content);
+        content[0] = 'B';
+        content[1] = 'I';
+        content[2] = 'N';
+        return content;
+    }
+}
@@ -0,0 +1,108 @@
+package com.nonggle.server.resume;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.file.ImageVariantsReadyEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.nonggle.server.resume.ResumeResponseFixtures.resumeResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResumeCacheTest {
+
+    private ResumeCache resumeCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        resumeCache = new ResumeCache(new CaffeineCache("resumes", Caffeine.newBuilder().maximumSize(100).build(), false), 0);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 이력서는 한 번만 로딩하고 적중률을 집계")
+    void get_loadsOnce() {
+        resumeCache.get(1L, () -> load(1L));
+        resumeCache.get(1L, () -> load(1L));
+        resumeCache.get(1L, () -> load(1L));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(resumeCache.getHitCount()).isEqualTo(2);
+        assertThat(resumeCache.getMissCount()).isEqualTo(1);
+        assertThat(resumeCache.getHitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 무효화하면 즉시 제거되어 다음 조회 때 다시 로딩")
+    void evict_reloads() {
+        resumeCache.get(1L, () -> load(1L));
+        resumeCache.get(2L, () -> load(2L));
+
+        resumeCache.evictAfterCommit(1L);
+        resumeCache.get(1L, () -> load(1L));
+        resumeCache.get(2L, () -> load(2L));
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("제거 직후 다른 로더가 넣은 옛 값은 지연된 두 번째 제거로 사라짐")
+    void evict_secondEvictRemovesStaleValue() throws InterruptedException {
+        resumeCache = new ResumeCache(new CaffeineCache("resumes", Caffeine.newBuilder().maximumSize(100).build(), false), 200);
+        resumeCache.get(1L, () -> load(1L));
+
+        resumeCache.evictAfterCommit(1L);
+        resumeCache.get(1L, () -> load(1L)); // 커밋 전에 읽은 옛 값이 제거 뒤에 들어온 상황
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.get() < 3 && System.nanoTime() < deadline) {
+            resumeCache.get(1L, () -> load(1L));
+            Thread.sleep(10);
+        }
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("프로필 사진 축소본이 생성되면 그 사진을 쓰는 이력서만 캐시에서 제거")
+    void imageVariantsReady_evictsResumesUsingHash() {
+        ResumeRepository resumeRepository = mock(ResumeRepository.class);
+        when(resumeRepository.findIdsByProfileImageHash("hash")).thenReturn(List.of(1L));
+        resumeCache.get(1L, () -> load(1L));
+        resumeCache.get(2L, () -> load(2L));
+
+        new ResumeImageVariantsListener(resumeRepository, resumeCache)
+                .onImageVariantsReady(new ImageVariantsReadyEvent("hash"));
+        resumeCache.get(1L, () -> load(1L));
+        resumeCache.get(2L, () -> load(2L));
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("로딩 중 발생한 ApiException은 그대로 전달하고 캐시하지 않음")
+    void get_loaderFailure() {
+        ApiException exception = assertThrows(ApiException.class, () -> resumeCache.get(1L, () -> {
+            throw new ApiException(ErrorDefine.RESUME_NOT_FOUND);
+        }));
+        resumeCache.get(1L, () -> load(1L));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.RESUME_NOT_FOUND);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private ResumeResponse load(Long id) {
+        loads.incrementAndGet();
+        return resumeResponse(id);
+    }
+}
@@ -0,0 +1,81 @@
+package com.nonggle.server.resume;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.nonggle.server.common.config.JacksonConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Map;
+
+import static com.nonggle.server.resume.ResumeResponseFixtures.INTRODUCE;
+import static com.nonggle.server.resume.ResumeResponseFixtures.resumeResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ResumeContentNegotiationTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ResumeService resumeService = mock(ResumeService.class);
+        when(resumeService.findMyResume(any(), eq(1L))).thenReturn(
+                resumeResponse(1L, INTRODUCE, Map.of(256, "http://localhost/uploads/a_256.jpg"), 0L));
+
+        JacksonConfig jacksonConfig = new JacksonConfig();
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ResumeController(resumeService, mock(ResumePdfRenderService.class), objectMapper))
+                .setMessageConverters(
+                        new MappingJackson2HttpMessageConverter(objectMapper),
+                        jacksonConfig.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder()),
+                        jacksonConfig.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Accept: application/cbor, application/x-jackson-smile 요청은 JSON과 같은 구조를 바이너리로 응답")
+    void binaryEncodings_sameShapeAsJson() throws Exception {
+        byte[] json = fetch(MediaType.APPLICATION_JSON);
+        byte[] cbor = fetch(MediaType.APPLICATION_CBOR);
+        byte[] smile = fetch(MediaType.parseMediaType("application/x-jackson-smile"));
+
+        JsonNode expected = objectMapper.readTree(json);
+        assertThat(new ObjectMapper(new CBORFactory()).readTree(cbor).toString()).isEqualTo(expected.toString());
+        assertThat(new ObjectMapper(new SmileFactory()).readTree(smile).toString()).isEqualTo(expected.toString());
+        assertThat(expected.at("/data/introduce").asText()).isEqualTo(INTRODUCE);
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("Accept가 없으면 기존과 같이 JSON")
+    void noAccept_defaultsToJson() throws Exception {
+        mockMvc.perform(get("/api/v1/resumes/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private byte[] fetch(MediaType mediaType) throws Exception {
+        return mockMvc.perform(get("/api/v1/resumes/1").accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+}
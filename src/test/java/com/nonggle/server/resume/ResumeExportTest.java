@@ -0,0 +1,62 @@
+package com.nonggle.server.resume;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.nonggle.server.resume.ResumeResponseFixtures.resumeResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ResumeExportTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("내보내기는 chunk를 받는 대로 이력서 하나당 한 줄(NDJSON)로 기록")
+    void export_writesNdjson() throws Exception {
+        ResumeService resumeService = mock(ResumeService.class);
+        doAnswer(invocation -> {
+            ResumeService.ResumeChunkWriter writer = invocation.getArgument(1);
+            writer.write(List.of(resumeResponse(1L), resumeResponse(2L)));
+            writer.write(List.of(resumeResponse(3L)));
+            return 3;
+        }).when(resumeService).exportMyResumes(any(), any());
+        MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new ResumeController(resumeService, mock(ResumePdfRenderService.class), objectMapper))
+                .build();
+
+        MvcResult started = mockMvc.perform(get("/api/v1/resumes/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode line = objectMapper.readTree(lines[i]);
+            assertThat(line.get("id").asLong()).isEqualTo(i + 1);
+            assertThat(line.get("userName").asText()).isEqualTo("홍길동");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.nonggle.server.resume;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.common.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ResumePdfDownloadTest {
+
+    private static final int PDF_SIZE = 3 * 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private ResumeService resumeService;
+    private MockMvc mockMvc;
+    private byte[] pdf;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pdf = new byte[PDF_SIZE];
+        new Random(42).nextBytes(pdf);
+        System.arraycopy("%PDF-1.7".getBytes(), 0, pdf, 0, 8);
+        Path path = Files.write(dir.resolve("stored.pdf"), pdf);
+
+        resumeService = mock(ResumeService.class);
+        when(resumeService.getPdf(any(), eq(1L)))
+                .thenReturn(new ResumePdfDownload(path, "이력서.pdf", PDF_SIZE, "abc123"));
+        when(resumeService.getPdf(any(), eq(2L)))
+                .thenThrow(new ApiException(ErrorDefine.FORBIDDEN));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ResumeController(resumeService, mock(ResumePdfRenderService.class), new ObjectMapper()))
+                .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("전체 다운로드는 Content-Length/Content-Disposition과 함께 파일 내용 그대로 전송")
+    void download_full() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/resumes/1/file"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/pdf"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(PDF_SIZE)))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION))
+                .startsWith("attachment;")
+                .contains("filename*=UTF-8''%EC%9D%B4%EB%A0%A5%EC%84%9C.pdf");
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(pdf);
+    }
+
+    @Test
+    @DisplayName("Range 요청은 해당 구간만 206으로 전송 (이어받기)")
+    void download_range() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/resumes/1/file").header(HttpHeaders.RANGE, "bytes=1048576-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1048576-" + (PDF_SIZE - 1) + "/" + PDF_SIZE))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray())
+                .isEqualTo(Arrays.copyOfRange(pdf, 1048576, PDF_SIZE));
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 본문 없이 304")
+    void download_notModified() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/resumes/1/file").header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 이력서 PDF는 403")
+    void download_notOwner() throws Exception {
+        mockMvc.perform(get("/api/v1/resumes/2/file"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,136 @@
+package com.nonggle.server.resume;
+
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.file.FileStorageService;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.nonggle.server.resume.ResumeResponseFixtures.resumeResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResumePdfRenderServiceTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private FileStorageService fileStorageService;
+    private ResumePdfRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = mock(FileStorageService.class);
+        when(fileStorageService.findStoredFile(any())).thenReturn(Optional.empty());
+        renderer = new ResumePdfRenderer("");
+    }
+
+    @Test
+    @DisplayName("처음 요청은 렌더링, 같은 버전의 재요청은 디스크 캐시에서 응답")
+    void render_cachesByVersion() throws Exception {
+        ResumePdfRenderService service = service(Runnable::run);
+
+        Path first = service.render(resumeResponse(1L, 0L)).join();
+        Path second = service.render(resumeResponse(1L, 0L)).join();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(service.getCacheMissCount()).isEqualTo(1);
+        assertThat(service.getCacheHitCount()).isEqualTo(1);
+        try (PDDocument document = Loader.loadPDF(first.toFile())) {
+            assertThat(document.getNumberOfPages()).isGreaterThanOrEqualTo(1);
+            assertThat(new PDFTextStripper().getText(document)).contains("2015-03 ~ 2017-02");
+        }
+    }
+
+    @Test
+    @DisplayName("이력서가 수정되면 다시 렌더링하고 이전 버전 파일 삭제")
+    void render_newVersion_replacesOldFile() {
+        ResumePdfRenderService service = service(Runnable::run);
+
+        Path oldVersion = service.render(resumeResponse(1L, 0L)).join();
+        Path newVersion = service.render(resumeResponse(1L, 1L)).join();
+
+        assertThat(newVersion).isNotEqualTo(oldVersion).exists();
+        assertThat(oldVersion).doesNotExist();
+        assertThat(service.getCacheMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이전 버전 렌더링이 늦게 끝나도 새 버전 파일은 지우지 않음")
+    void render_olderVersionFinishingLate_keepsNewerFile() {
+        ResumePdfRenderService service = service(Runnable::run);
+
+        Path newVersion = service.render(resumeResponse(1L, 2L)).join();
+        service.render(resumeResponse(1L, 1L)).join();
+
+        assertThat(newVersion).exists();
+    }
+
+    @Test
+    @DisplayName("이전 형식(updatedAt 기준) 캐시 파일은 렌더링 시 정리")
+    void render_removesLegacyFiles() throws Exception {
+        Path legacy = Files.createFile(cacheDir.resolve("1_20250102100000.pdf"));
+
+        service(Runnable::run).render(resumeResponse(1L, 0L)).join();
+
+        assertThat(legacy).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("긴 자기소개는 여러 페이지로 나눠 렌더링")
+    void render_longContent_multiplePages() throws Exception {
+        ResumeResponse longResume = resumeResponse(1L, "long introduce ".repeat(2000), Map.of(), 0L);
+
+        Path pdf = service(Runnable::run).render(longResume).join();
+
+        try (PDDocument document = Loader.loadPDF(pdf.toFile())) {
+            assertThat(document.getNumberOfPages()).isGreaterThan(1);
+        }
+    }
+
+    @Test
+    @DisplayName("렌더링 큐가 가득 차면 SERVICE_BUSY")
+    void render_queueFull_busy() {
+        ResumePdfRenderService service = service(task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        assertThatThrownBy(() -> service.render(resumeResponse(1L, 0L)).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getError()).isEqualTo(ErrorDefine.SERVICE_BUSY));
+        assertThat(Files.exists(cacheDir.resolve("1_v0.pdf"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이력서 삭제 시 캐시 파일 제거")
+    void evict_removesCachedFiles() {
+        ResumePdfRenderService service = service(Runnable::run);
+        Path pdf = service.render(resumeResponse(1L, 0L)).join();
+
+        service.evictAfterCommit(1L);
+
+        assertThat(pdf).doesNotExist();
+    }
+
+    private ResumePdfRenderService service(Executor executor) {
+        return new ResumePdfRenderService(renderer, fileStorageService, executor, cacheDir.toString());
+    }
+}
@@ -0,0 +1,29 @@
+package com.nonggle.server.resume;
+
+import java.util.List;
+import java.util.Map;
+
+// 컨트롤러/캐시/PDF 테스트에서 공통으로 쓰는 이력서 응답 (src/jmh의 ResumeFixtures는 엔티티용)
+final class ResumeResponseFixtures {
+
+    static final String INTRODUCE = "성실하게 일합니다.";
+
+    private ResumeResponseFixtures() {
+    }
+
+    static ResumeResponse resumeResponse(Long id) {
+        return resumeResponse(id, 0L);
+    }
+
+    static ResumeResponse resumeResponse(Long id, long version) {
+        return resumeResponse(id, INTRODUCE, Map.of(), version);
+    }
+
+    static ResumeResponse resumeResponse(Long id, String introduce, Map<Integer, String> profileImageVariants, long version) {
+        return new ResumeResponse(id, 1L, "홍길동", "1967-05-12", "58", "MALE",
+                List.of("지게차운전기능사", "유기농업기능사"),
+                List.of(new ResumeResponse.CareerResponseData("2015-03", "2017-02", "24m", "농장 관리", "시설 하우스 토마토 재배")),
+                "27y3m", introduce, "30년간 다양한 작물 재배 경험이 있습니다.", List.of("성실함", "꼼꼼함"),
+                null, profileImageVariants, "2025-01-01T10:00:00", null, version);
+    }
+}
@@ -0,0 +1,371 @@
+package com.nonggle.server.resume;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nonggle.server.common.ApiException;
+import com.nonggle.server.common.ErrorDefine;
+import com.nonggle.server.common.config.CacheConfig;
+import com.nonggle.server.common.config.JpaConfig;
+import com.nonggle.server.file.FileStorageService;
+import com.nonggle.server.file.PdfStorageService;
+import com.nonggle.server.user.User;
+import com.nonggle.server.user.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ResumeService.class, ResumeCache.class, CacheConfig.class, JpaConfig.class})
+@ImportAutoConfiguration({ValidationAutoConfiguration.class, JacksonAutoConfiguration.class})
+class ResumeServiceQueryCountTest {
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @MockitoBean
+    private PdfStorageService pdfStorageService;
+
+    @MockitoBean
+    private ResumePdfRenderService resumePdfRenderService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    @DisplayName("내 이력서 목록 조회 쿼리 수는 이력서 개수와 무관하게 일정")
+    void findMyResumes_queryCountStaysFlat() {
+        long fewResumesQueries = countQueriesForFindMyResumes(2);
+        long manyResumesQueries = countQueriesForFindMyResumes(20);
+
+        // 이력서 1회 + certification / career / personality 컬렉션 각 1회
+        assertThat(fewResumesQueries).isEqualTo(4);
+        assertThat(manyResumesQueries).isEqualTo(fewResumesQueries);
+    }
+
+    @Test
+    @DisplayName("after 커서로 이어서 조회하면 중복/누락 없이 id 순서대로 끝까지 전달")
+    void findMyResumes_cursorContinuation() {
+        User user = entityManager.persist(new User("kakao_cursor"));
+        User other = entityManager.persist(new User("kakao_cursor_other"));
+        List<Long> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIds.add(entityManager.persist(resume(user, i)).getId());
+            entityManager.persist(resume(other, i)); // 다른 사용자 이력서는 섞이지 않아야 함
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Integer> pageSizes = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        Long after = null;
+        List<ResumeResponse> page;
+        do {
+            page = resumeService.findMyResumes(user.getId(), after, 2);
+            pageSizes.add(page.size());
+            page.forEach(resume -> ids.add(resume.id()));
+            after = page.isEmpty() ? after : page.get(page.size() - 1).id();
+        } while (!page.isEmpty());
+
+        assertThat(pageSizes).containsExactly(2, 2, 1, 0);
+        assertThat(ids).containsExactlyElementsOf(savedIds);
+    }
+
+    @Test
+    @DisplayName("limit이 1~100 범위를 벗어나면 full/summary 모두 400")
+    void findMyResumes_limitOutOfRange() {
+        User user = entityManager.persist(new User("kakao_limit"));
+
+        for (int limit : new int[]{0, 101}) {
+            ApiException full = assertThrows(ApiException.class,
+                    () -> resumeService.findMyResumes(user.getId(), null, limit));
+            ApiException summary = assertThrows(ApiException.class,
+                    () -> resumeService.findMyResumeSummaries(user.getId(), null, limit));
+
+            assertThat(full.getError()).isEqualTo(ErrorDefine.BAD_REQUEST);
+            assertThat(summary.getError()).isEqualTo(ErrorDefine.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    @DisplayName("요약 목록은 이력서 테이블 한 번만 조회하고 컬렉션 테이블은 읽지 않음")
+    void findMyResumeSummaries_skipsCollections() {
+        User user = entityManager.persist(new User("kakao_summary"));
+        for (int i = 0; i < 10; i++) {
+            entityManager.persist(resume(user, i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<ResumeSummaryResponse> summaries = resumeService.findMyResumeSummaries(user.getId(), null, 5);
+
+        assertThat(summaries).hasSize(5)
+                .extracting(ResumeSummaryResponse::userName)
+                .containsExactly("user 0", "user 1", "user 2", "user 3", "user 4");
+        assertThat(summaries).allSatisfy(summary -> assertThat(summary.profileImageVariants()).isEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("목록 조회 view가 full/summary가 아니면 400")
+    void getMyResumes_unknownView() {
+        User user = entityManager.persist(new User("kakao_view"));
+        ResumeController controller = new ResumeController(resumeService, resumePdfRenderService, new ObjectMapper());
+
+        ApiException exception = assertThrows(ApiException.class,
+                () -> controller.getMyResumes(user.getId(), null, null, "compact"));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.BAD_REQUEST);
+        assertThat(controller.getMyResumes(user.getId(), null, null, "summary").data()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이력서 상세 재조회는 DB 조회 없이 캐시에서 응답하고, 다른 사용자는 캐시된 이력서도 볼 수 없다")
+    void findMyResume_readsThroughCache() {
+        User owner = entityManager.persist(new User("kakao_cache_owner"));
+        User other = entityManager.persist(new User("kakao_cache_other"));
+        Long resumeId = entityManager.persist(resume(owner, 0)).getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        ResumeResponse first = resumeService.findMyResume(owner.getId(), resumeId);
+        long firstQueries = statistics.getPrepareStatementCount();
+        ResumeResponse second = resumeService.findMyResume(owner.getId(), resumeId);
+
+        assertThat(firstQueries).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(firstQueries);
+        assertThat(second).isEqualTo(first);
+
+        ApiException exception = assertThrows(ApiException.class,
+                () -> resumeService.findMyResume(other.getId(), resumeId));
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("경력 하나만 수정하면 해당 행만 UPDATE하고 나머지 경력 행은 다시 쓰지 않음")
+    void updateResume_updatesOnlyChangedRow() {
+        User user = entityManager.persist(new User("kakao_update"));
+        Resume saved = entityManager.persist(resume(user, 0));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<ResumeCreateRequest.CareerFormData> careers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            careers.add(new ResumeCreateRequest.CareerFormData("2020-01", "2021-01", "12m", "career " + i,
+                    i == 1 ? "edited detail" : "detail " + i));
+        }
+        ResumeResponse response = resumeService.updateResume(user.getId(), saved.getId(),
+                new ResumeUpdateRequest(null, null, null, null, null, careers, null, null, null, null, saved.getVersion()));
+
+        // 경력 컬렉션은 행 단위 UPDATE 한 번, 전체 삭제/재삽입(recreate)은 없음
+        assertThat(statistics.getCollectionUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionRemoveCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        // 이력서 1 + 컬렉션 3개 조회(응답 생성) + 경력 1행 UPDATE + 이력서 UPDATE (전체 재작성이면 DELETE 1 + INSERT 3이 추가됨)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(response.version()).isEqualTo(saved.getVersion() + 1);
+        assertThat(response.careerList()).extracting(ResumeResponse.CareerResponseData::careerDetail)
+                .containsExactly("detail 0", "edited detail", "detail 2");
+        assertThat(response.certificationList()).containsExactly("cert A", "cert B");
+    }
+
+    @Test
+    @DisplayName("조회 이후 다른 수정이 있었으면(version 불일치) 409")
+    void updateResume_staleVersion() {
+        User user = entityManager.persist(new User("kakao_conflict"));
+        Resume saved = entityManager.persist(resume(user, 0));
+        entityManager.flush();
+
+        ApiException exception = assertThrows(ApiException.class, () -> resumeService.updateResume(user.getId(), saved.getId(),
+                new ResumeUpdateRequest("new name", null, null, null, null, null, null, null, null, null, saved.getVersion() + 1)));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.CONFLICT);
+    }
+
+    @Test
+    @DisplayName("내보내기는 chunk 단위로 읽어서 이력서 수에 비례한 고정 쿼리 수로 전체를 순서대로 전달")
+    void exportMyResumes_readsInChunks() throws Exception {
+        User user = entityManager.persist(new User("kakao_export"));
+        for (int i = 0; i < 250; i++) {
+            entityManager.persist(resume(user, i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        int count = resumeService.exportMyResumes(user.getId(), chunk -> {
+            chunkSizes.add(chunk.size());
+            chunk.forEach(resume -> ids.add(resume.id()));
+        });
+
+        // chunk(100개)마다 이력서 1회 + 컬렉션 subselect 3회, 마지막 chunk가 100개 미만이면 추가 조회 없음
+        assertThat(count).isEqualTo(250);
+        assertThat(chunkSizes).containsExactly(100, 100, 50);
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("일괄 등록은 이력서/컬렉션 행 insert를 JDBC batch로 묶어 전송")
+    void importResumes_batchesInserts() {
+        User user = entityManager.persist(new User("kakao_import"));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        ResumeImportResponse response = resumeService.importResumes(user.getId(), importRequests(120).iterator());
+
+        // 이력서 120 + 자격증 240 + 경력 360 + 성격 240 = 960행, 개별 insert면 960개 statement
+        assertThat(response.importedCount()).isEqualTo(120);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(40);
+        assertThat(resumeService.findMyResumes(user.getId(), null, null)).hasSize(120)
+                .allSatisfy(resume -> assertThat(resume.careerList()).hasSize(3));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 테스트 트랜잭션 없이 실제 호출과 같은 조건
+    @DisplayName("일괄 등록은 요청 본문을 트랜잭션(DB 커넥션) 밖에서 모두 읽은 뒤 저장")
+    void importResumes_readsRequestsOutsideTransaction() {
+        User user = userRepository.save(new User("kakao_import_outside_tx"));
+        Iterator<ResumeCreateRequest> source = importRequests(3).iterator();
+        List<Boolean> readInTransaction = new ArrayList<>();
+        Iterator<ResumeCreateRequest> requests = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                readInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+                return source.hasNext();
+            }
+
+            @Override
+            public ResumeCreateRequest next() {
+                readInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+                return source.next();
+            }
+        };
+
+        try {
+            ResumeImportResponse response = resumeService.importResumes(user.getId(), requests);
+
+            assertThat(response.importedCount()).isEqualTo(3);
+            assertThat(readInTransaction).isNotEmpty().containsOnly(false);
+            assertThat(resumeService.findMyResumes(user.getId(), null, null)).hasSize(3)
+                    .extracting(ResumeResponse::userName)
+                    .containsExactly("user 0", "user 1", "user 2");
+        } finally {
+            // 테스트 트랜잭션 밖에서 커밋된 행이므로 롤백되지 않음 → 직접 삭제
+            resumeRepository.deleteAll(resumeRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                    user.getId(), 0L, Limit.unlimited()));
+            userRepository.delete(user);
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 등록 중 잘못된 이력서가 있으면 몇 번째인지 알려주고 실패")
+    void importResumes_invalidRequest() {
+        User user = entityManager.persist(new User("kakao_invalid"));
+        List<ResumeCreateRequest> requests = new ArrayList<>(importRequests(3));
+        requests.add(1, new ResumeCreateRequest(" ", null, null, null, null, null, "12m", null, null, null));
+
+        ApiException exception = assertThrows(ApiException.class,
+                () -> resumeService.importResumes(user.getId(), requests.iterator()));
+
+        assertThat(exception.getError()).isEqualTo(ErrorDefine.BAD_REQUEST);
+        assertThat(exception.getCustomMessage()).startsWith("2번째 이력서: userName");
+    }
+
+    private List<ResumeCreateRequest> importRequests(int count) {
+        List<ResumeCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<ResumeCreateRequest.CareerFormData> careers = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                careers.add(new ResumeCreateRequest.CareerFormData("2020-01", "2021-01", "12m", "career " + j, "detail " + j));
+            }
+            requests.add(new ResumeCreateRequest("user " + i, "58", "1967-05-12", "MALE",
+                    List.of(new ResumeCreateRequest.CertificationTag("cert A"), new ResumeCreateRequest.CertificationTag("cert B")),
+                    careers, "36m", "introduce", "detail",
+                    List.of(new ResumeCreateRequest.PersonalityTag("tag A"), new ResumeCreateRequest.PersonalityTag("tag B"))));
+        }
+        return requests;
+    }
+
+    private long countQueriesForFindMyResumes(int resumeCount) {
+        User user = entityManager.persist(new User("kakao_" + resumeCount));
+        for (int i = 0; i < resumeCount; i++) {
+            entityManager.persist(resume(user, i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<ResumeResponse> responses = resumeService.findMyResumes(user.getId(), null, null);
+
+        assertThat(responses).hasSize(resumeCount);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.certificationList()).hasSize(2);
+            assertThat(response.careerList()).hasSize(3);
+            assertThat(response.personalityList()).hasSize(2);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Resume resume(User user, int index) {
+        List<Resume.CareerData> careers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            careers.add(new Resume.CareerData("2020-01", "2021-01", "12m", "career " + i, "detail " + i));
+        }
+        return Resume.builder()
+                .user(user)
+                .userName("user " + index)
+                .totalCareer("36m")
+                .certificationTitles(new ArrayList<>(List.of("cert A", "cert B")))
+                .careerList(careers)
+                .personalityTags(new ArrayList<>(List.of("tag A", "tag B")))
+                .build();
+    }
+}